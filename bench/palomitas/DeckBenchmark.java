@@ -0,0 +1,212 @@
+package palomitas;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+// 단어장 성능 측정: 로드, CSV 파싱/가져오기, 추가/삭제, 검색, 퀴즈 만들기, 객관식 보기 뽑기를
+// 단어장 크기별(기본 1천, 10만, 100만)로 재서 초당 처리량, 한 번에 걸리는 시간, 한 번에 할당하는 바이트를 출력합니다.
+// 프로젝트에 빌드 도구가 없어 JMH 대신 같은 방식(워밍업 뒤 일정 시간 반복)을 직접 구현했습니다.
+// 할당량은 측정하는 스레드의 것만 셉니다. (병렬 가져오기, 백그라운드 저장 스레드의 할당은 빠짐)
+//
+// 실행 (프로젝트 루트에서):
+//   javac -encoding UTF-8 -d out src/palomitas/*.java bench/palomitas/*.java
+//   java -Xmx4g -cp out palomitas.DeckBenchmark [크기들] [이름 필터]
+//   예: java -Xmx4g -cp out palomitas.DeckBenchmark 1000,100000 quiz
+public class DeckBenchmark {
+    private static final long WARMUP_NANOS = 1_000_000_000L;
+    private static final long MEASURE_NANOS = 3_000_000_000L;
+    private static final int QUIZ_QUESTIONS = 1000;
+    private static final String[] QUERIES = {"a", "pa", "bra", "labra1", "가", "ejemplo 12", "zzz"};
+
+    // 한 번 실행하고 처리한 개수를 돌려주는 측정 대상
+    private interface Operation {
+        int run(int iteration) throws Exception;
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Path workDir;
+    private final String filter;
+    private final PrintStream report; // 결과 표 (단어장이 System.out에 찍는 로그는 버림)
+
+    private DeckBenchmark(Path workDir, String filter, PrintStream report) {
+        this.workDir = workDir;
+        this.filter = filter;
+        this.report = report;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] sizes = {1_000, 100_000, 1_000_000};
+        if (args.length > 0) {
+            String[] parts = args[0].split(",");
+            sizes = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                sizes[i] = Integer.parseInt(parts[i].trim());
+            }
+        }
+        String filter = args.length > 1 ? args[1] : "";
+
+        Path workDir = Files.createTempDirectory("palomitas-bench");
+        PrintStream report = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 로드/저장마다 찍는 안내 메시지 (오류는 그대로 System.err로)
+        try {
+            DeckBenchmark benchmark = new DeckBenchmark(workDir, filter, report);
+            report.printf("%-22s %10s %14s %14s %14s%n", "벤치마크", "단어 수", "처리량(/초)", "시간(ns/회)", "할당(B/회)");
+            for (int size : sizes) {
+                benchmark.runAll(size);
+            }
+        } finally {
+            System.setOut(report);
+            deleteRecursively(workDir);
+        }
+    }
+
+    private void runAll(int size) throws Exception {
+        Path csvPath = workDir.resolve("deck-" + size + ".csv");
+        List<String> lines = generateDeck(size, csvPath);
+
+        measure("csv.parseLine", size, i -> {
+            Word word = Word.fromCsvString(lines.get(i % lines.size()));
+            return word != null ? 1 : 0;
+        });
+
+        // CSV에서 읽기. close()가 백그라운드 이진 스냅샷 생성까지 기다리므로 그 시간도 들어갑니다.
+        // (-Dpalomitas.binarySnapshot=false 로 실행하면 CSV 파싱만)
+        measure("deck.loadCsv", size, i -> {
+            Files.deleteIfExists(WordSnapshotFile.pathFor(csvPath.toString()));
+            new WordManager(csvPath.toString(), false).close();
+            return 1;
+        });
+        measure("deck.loadSnapshot", size, i -> {
+            new WordManager(csvPath.toString(), false).close(); // 직전에 만든 이진 스냅샷에서 읽기
+            return 1;
+        });
+
+        measure("deck.import", size, i -> {
+            Path target = workDir.resolve("import-" + i + ".csv");
+            WordManager manager = new WordManager(target.toString(), false);
+            manager.importWordsFromCsv(csvPath.toString());
+            manager.close(); // 가져온 뒤의 저장까지
+            deleteSiblings(target);
+            return 1;
+        });
+
+        WordManager manager = new WordManager(csvPath.toString(), true); // 저널 모드: 편집마다 전체를 다시 쓰지 않음
+        measure("deck.addRemove", size, i -> {
+            String spanish = "bench" + i;
+            manager.addWord(new Word(spanish, "측정", ""));
+            manager.removeWord(spanish);
+            return 1;
+        });
+
+        WordSnapshot snapshot = manager.getAllWords();
+        measure("search.buildIndex", size, i -> {
+            WordSearchIndex.build(snapshot);
+            return 1;
+        });
+        WordSearchIndex index = WordSearchIndex.build(snapshot);
+        measure("search.query", size, i -> {
+            index.search(WordSearchIndex.fold(QUERIES[i % QUERIES.length]));
+            return 1;
+        });
+
+        measure("quiz.setup", size, i -> {
+            new Quiz(snapshot, Quiz.QuizType.SPANISH_TO_KOREAN_SHORT_ANSWER, 10, i);
+            return 1;
+        });
+        for (DistractorIndex.Difficulty difficulty : DistractorIndex.Difficulty.values()) {
+            Quiz quiz = new Quiz(snapshot, Quiz.QuizType.SPANISH_TO_KOREAN_MULTIPLE_CHOICE, QUIZ_QUESTIONS, 42L);
+            quiz.setDistractorDifficulty(difficulty);
+            quiz.generateMultipleChoices(quiz.getQuestionAt(0)); // 비슷한 보기 색인은 측정 전에 만들어 둠
+            int questions = quiz.getTotalQuestionsInQuiz();
+            measure("quiz.mcq." + difficulty.name().toLowerCase(), size, i -> {
+                quiz.generateMultipleChoices(quiz.getQuestionAt(i % questions));
+                return 1;
+            });
+        }
+        manager.close();
+    }
+
+    // 워밍업 뒤 MEASURE_NANOS 동안(오래 걸리는 작업은 최소 한 번) 반복합니다.
+    private void measure(String name, int size, Operation operation) throws Exception {
+        if (!name.contains(filter)) {
+            return;
+        }
+        int iteration = 0;
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        do {
+            operation.run(iteration++);
+        } while (System.nanoTime() < warmupEnd);
+
+        System.gc();
+        long count = 0;
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long end = start + MEASURE_NANOS;
+        long now;
+        do {
+            count += operation.run(iteration++);
+            now = System.nanoTime();
+        } while (now < end);
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long elapsed = now - start;
+
+        count = Math.max(count, 1);
+        report.printf("%-22s %,10d %,14.1f %,14d %,14d%n", name, size,
+                count * 1_000_000_000.0 / elapsed, elapsed / count, allocated / count);
+    }
+
+    // 스페인어처럼 보이는 단어, 한글 뜻, 예문으로 된 단어장 (seed 고정)
+    private static List<String> generateDeck(int size, Path csvPath) throws IOException {
+        Random random = new Random(size);
+        List<String> lines = new ArrayList<>(size);
+        String[] stems = {"palabra", "casa", "canción", "perro", "árbol", "mesa", "camión", "niño", "ciudad", "agua"};
+        try (BufferedWriter writer = Files.newBufferedWriter(csvPath, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < size; i++) {
+                String spanish = stems[random.nextInt(stems.length)] + i;
+                StringBuilder korean = new StringBuilder();
+                int syllables = 1 + random.nextInt(4);
+                for (int s = 0; s < syllables; s++) {
+                    korean.append((char) (0xAC00 + random.nextInt(11172)));
+                }
+                String example = random.nextInt(3) == 0 ? "" : "ejemplo " + i + ", con \"comillas\"";
+                String line = new Word(spanish, korean.toString(), example).toCsvString();
+                lines.add(line);
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+        return lines;
+    }
+
+    // words.csv와 함께 생기는 .bin, .journal 등을 지웁니다.
+    private static void deleteSiblings(Path csvPath) throws IOException {
+        try (Stream<Path> files = Files.list(csvPath.getParent())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().startsWith(csvPath.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
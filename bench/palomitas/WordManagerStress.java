@@ -0,0 +1,392 @@
+package palomitas;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// WordManager 동시성 스트레스 테스트: 읽기, 편집, 가져오기/내보내기, 퀴즈, 바깥 파일 변경(감시 스레드의 다시 읽기)을
+// 여러 스레드에서 한꺼번에 돌리면서 단어장이 약속한 일관성을 확인합니다.
+//  - 모든 스냅샷: 같은 단어(대소문자 무시)가 두 번 들어 있지 않고, 만든 뒤에는 내용이 바뀌지 않으며,
+//    한 스레드가 보는 version은 줄어들지 않습니다.
+//  - 변경 알림: version이 커지는 순서로 오고, 알림만으로 따라 만든 목록이 그 version의 스냅샷과 같습니다.
+//  - 퀴즈: 어느 스냅샷으로 만들든 보기에 정답이 있고 보기끼리 겹치지 않습니다.
+//  - 끝난 뒤: 저장한 파일을 다시 열면 메모리의 단어장과 같습니다.
+// 어긋난 것이 하나라도 있으면 내용을 출력하고 종료 코드 1로 끝납니다.
+//
+// 실행 (프로젝트 루트에서):
+//   javac -encoding UTF-8 -d out src/palomitas/*.java bench/palomitas/*.java
+//   java -cp out palomitas.WordManagerStress [초, 기본 10] [journal]
+public class WordManagerStress {
+    private static final int KEY_SPACE = 3000; // 편집하는 단어 수의 범위 (겹치는 편집이 자주 나도록 작게)
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int QUIZ_THREADS = 2;
+    private static final int FULL_CHECK_INTERVAL = 50; // 알림 몇 번마다 따라 만든 목록 전체를 스냅샷과 비교할지
+
+    private final WordManager manager;
+    private final Path deckPath;
+    private final Path workDir;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    private final AtomicLong uniqueCounter = new AtomicLong();
+    private final ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong edits = new AtomicLong();
+    private final AtomicLong quizQuestions = new AtomicLong();
+    private final AtomicLong externalWrites = new AtomicLong();
+    private final AtomicLong imports = new AtomicLong();
+
+    // 알림으로 따라 만드는 단어장 (알림은 쓰기 잠금 안에서 차례로 오므로 따로 잠그지 않음)
+    private final List<Word> mirror = new ArrayList<>();
+    private long mirrorVersion;
+    private long events;
+
+    private WordManagerStress(Path workDir, boolean journalMode) {
+        this.workDir = workDir;
+        this.deckPath = workDir.resolve("words.csv");
+        this.manager = new WordManager(deckPath.toString(), journalMode);
+        WordSnapshot initial = manager.addWordChangeListener(this::onWordsChanged);
+        mirror.addAll(initial);
+        mirrorVersion = initial.getVersion();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        boolean journalMode = args.length > 1 && "journal".equals(args[1]);
+
+        PrintStream report = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream())); // 편집마다 찍는 안내 메시지 (오류는 System.err로)
+        Path workDir = Files.createTempDirectory("palomitas-stress");
+        boolean passed;
+        try {
+            passed = new WordManagerStress(workDir, journalMode).run(seconds, report);
+        } finally {
+            System.setOut(report);
+            deleteRecursively(workDir);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run(int seconds, PrintStream report) throws Exception {
+        Path importFile = workDir.resolve("import.csv");
+        writeDeckFile(importFile, randomWords(new Random(1), 500));
+        manager.startWatchingFile();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            threads.add(worker("writer-" + i, i, this::edit));
+        }
+        for (int i = 0; i < READERS; i++) {
+            threads.add(worker("reader-" + i, 100 + i, new Reader()::read));
+        }
+        for (int i = 0; i < QUIZ_THREADS; i++) {
+            threads.add(worker("quiz-" + i, 200 + i, this::quiz));
+        }
+        threads.add(worker("importer", 300, random -> {
+            manager.importWordsFromCsv(importFile.toString());
+            checkExport(workDir.resolve("export.csv"));
+            imports.incrementAndGet();
+            Thread.sleep(200);
+        }));
+        threads.add(worker("external-editor", 400, random -> {
+            // 동기화 프로그램처럼 words.csv를 통째로 바꿔치기 -> 감시 스레드가 바뀐 부분만 다시 반영
+            writeDeckFile(deckPath, randomWords(random, 1000 + random.nextInt(1000)));
+            externalWrites.incrementAndGet();
+            Thread.sleep(300);
+        }));
+        threads.add(worker("reloader", 500, random -> {
+            manager.loadWordsFromFile(); // RELOADED 알림
+            Thread.sleep(700);
+        }));
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        manager.stopWatchingFile();
+        awaitQuiet(); // 감시 스레드가 이미 읽기 시작한 변경이 있으면 끝나기를 기다림
+        manager.saveWordsToFile();
+        manager.flush();
+        checkFinalState();
+        manager.close();
+
+        report.printf("%d초: 읽기 %,d, 편집 %,d, 퀴즈 문제 %,d, 가져오기/내보내기 %,d, 바깥 파일 변경 %,d, 변경 알림 %,d%n",
+                seconds, reads.get(), edits.get(), quizQuestions.get(), imports.get(), externalWrites.get(), events);
+        if (failures.isEmpty()) {
+            report.println("통과");
+            return true;
+        }
+        report.println("실패 " + failures.size() + "건:");
+        failures.stream().limit(20).forEach(failure -> report.println("  " + failure));
+        return false;
+    }
+
+    private interface Step {
+        void run(Random random) throws Exception;
+    }
+
+    private Thread worker(String name, long seed, Step step) {
+        Thread thread = new Thread(() -> {
+            Random random = new Random(seed);
+            while (running.get()) {
+                try {
+                    step.run(random);
+                } catch (Exception | AssertionError e) {
+                    fail(name + ": " + e);
+                }
+            }
+        }, "stress-" + name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private void fail(String message) {
+        if (failures.size() < 1000) {
+            failures.add(message);
+        }
+    }
+
+    // ---- 스레드별 작업 ----
+
+    private void edit(Random random) {
+        String spanish = randomSpanish(random);
+        int op = random.nextInt(10);
+        if (op < 4) {
+            manager.addWord(newWord(spanish));
+        } else if (op < 7) {
+            manager.removeWord(spanish);
+        } else {
+            String target = random.nextBoolean() ? spanish : randomSpanish(random); // 다른 단어로 바꾸기(중복이면 거절됨)도 섞음
+            manager.updateWord(spanish, newWord(target));
+        }
+        edits.incrementAndGet();
+    }
+
+    private class Reader {
+        private long lastVersion = -1;
+
+        void read(Random random) throws InterruptedException {
+            WordSnapshot snapshot = manager.getAllWords();
+            if (snapshot.getVersion() < lastVersion) {
+                fail("version이 줄었습니다: " + lastVersion + " -> " + snapshot.getVersion());
+            }
+            lastVersion = snapshot.getVersion();
+            checkNoDuplicates(snapshot, "스냅샷 v" + snapshot.getVersion());
+            int hash = contentHash(snapshot);
+            for (int i = 0; i < 50; i++) {
+                String spanish = randomSpanish(random);
+                Word word = manager.getWord(spanish);
+                if (word != null && !WordManager.toKey(word.getSpanish()).equals(WordManager.toKey(spanish))) {
+                    fail("getWord(" + spanish + ")가 다른 단어를 돌려줌: " + word.getSpanish());
+                }
+                manager.containsWord(spanish);
+            }
+            Thread.sleep(1);
+            if (contentHash(snapshot) != hash) {
+                fail("스냅샷 v" + snapshot.getVersion() + "의 내용이 만든 뒤에 바뀌었습니다.");
+            }
+            reads.addAndGet(51);
+        }
+    }
+
+    private void quiz(Random random) {
+        WordSnapshot snapshot = manager.getAllWords();
+        if (snapshot.size() < 4) {
+            return;
+        }
+        Quiz quiz = new Quiz(snapshot, Quiz.QuizType.SPANISH_TO_KOREAN_MULTIPLE_CHOICE, 20, random.nextLong());
+        DistractorIndex.Difficulty[] difficulties = DistractorIndex.Difficulty.values();
+        quiz.setDistractorDifficulty(difficulties[random.nextInt(difficulties.length)]);
+        for (int i = 0; i < quiz.getTotalQuestionsInQuiz(); i++) {
+            Word question = quiz.getQuestionAt(i);
+            List<String> choices = quiz.generateMultipleChoices(question);
+            if (!choices.contains(question.getKorean())) {
+                fail("보기에 정답이 없습니다: " + question.getSpanish() + " " + choices);
+            }
+            if (new HashSet<>(choices).size() != choices.size()) {
+                fail("보기가 겹칩니다: " + choices);
+            }
+            quizQuestions.incrementAndGet();
+        }
+    }
+
+    private void checkExport(Path exportFile) throws IOException {
+        if (!manager.exportWordsToCsv(exportFile.toString())) {
+            fail("내보내기 실패");
+            return;
+        }
+        List<Word> exported = new ArrayList<>();
+        for (String line : Files.readAllLines(exportFile)) {
+            Word word = Word.fromCsvString(line);
+            if (word != null) {
+                exported.add(word);
+            }
+        }
+        checkNoDuplicates(exported, "내보낸 파일");
+    }
+
+    // ---- 변경 알림 확인 ----
+
+    // 쓰기 잠금을 쥔 스레드에서 호출됩니다.
+    private void onWordsChanged(WordChangeEvent event) {
+        events++;
+        if (event.getVersion() <= mirrorVersion) {
+            fail("알림 version이 커지지 않았습니다: " + mirrorVersion + " -> " + event.getVersion() + " " + event);
+        }
+        mirrorVersion = event.getVersion();
+        switch (event.getType()) {
+            case ADDED:
+                if (event.getFirstIndex() != mirror.size()) {
+                    fail("추가 위치가 끝이 아닙니다: " + event + ", 크기 " + mirror.size());
+                }
+                mirror.addAll(Math.min(event.getFirstIndex(), mirror.size()), event.getWords());
+                break;
+            case REMOVED:
+                if (!sameKey(mirror.get(event.getFirstIndex()), event.getOldWord())) {
+                    fail("삭제 알림의 위치가 틀렸습니다: " + event);
+                }
+                mirror.remove(event.getFirstIndex());
+                break;
+            case UPDATED:
+                if (!sameKey(mirror.get(event.getFirstIndex()), event.getOldWord())) {
+                    fail("수정 알림의 위치가 틀렸습니다: " + event);
+                }
+                mirror.set(event.getFirstIndex(), event.getWords().get(0));
+                break;
+            case RELOADED:
+                mirror.clear();
+                mirror.addAll(event.getWords());
+                break;
+        }
+        WordSnapshot current = manager.getAllWords(); // 쓰기 잠금을 쥔 채이므로 이 알림 직후의 모습
+        if (current.getVersion() != event.getVersion()) {
+            fail("알림 version " + event.getVersion() + "과 스냅샷 version " + current.getVersion() + "이 다릅니다.");
+        }
+        if (current.size() != mirror.size()) {
+            fail("v" + event.getVersion() + ": 알림으로 따라 만든 크기 " + mirror.size() + ", 실제 " + current.size());
+        } else if (events % FULL_CHECK_INTERVAL == 0) {
+            checkSameWords(mirror, current, "v" + event.getVersion() + " 알림으로 따라 만든 목록");
+        }
+    }
+
+    // 모든 스레드가 멈춘 뒤: 알림으로 따라 만든 목록과 version이 최종 단어장과 정확히 같아야 합니다.
+    // (단어장의 version은 알림 없이 바뀌지 않음)
+    private void checkFinalState() {
+        WordSnapshot finalWords = manager.getAllWords();
+        checkNoDuplicates(finalWords, "최종 단어장");
+        if (finalWords.getVersion() != mirrorVersion) {
+            fail("최종 version " + finalWords.getVersion() + ", 마지막 알림 version " + mirrorVersion);
+        }
+        checkSameWords(mirror, finalWords, "최종 알림으로 따라 만든 목록");
+
+        WordManager reopened = new WordManager(deckPath.toString(), manager.isJournalMode());
+        checkSameWords(reopened.getAllWords(), finalWords, "저장 후 다시 연 단어장");
+        reopened.close();
+    }
+
+    private void awaitQuiet() throws InterruptedException {
+        long version;
+        do {
+            version = manager.getVersion();
+            Thread.sleep(500);
+        } while (manager.getVersion() != version);
+    }
+
+    // ---- 보조 ----
+
+    // 단어 내용으로 만든 해시 (압축 저장 모드의 Word는 꺼낼 때마다 새 뷰라 참조 해시는 쓸 수 없음)
+    private static int contentHash(List<Word> words) {
+        int hash = 1;
+        for (Word word : words) {
+            hash = 31 * hash + word.getSpanish().hashCode();
+            hash = 31 * hash + word.getKorean().hashCode();
+            hash = 31 * hash + word.getExample().hashCode();
+        }
+        return hash;
+    }
+
+    private void checkNoDuplicates(List<Word> words, String what) {
+        Set<String> keys = new HashSet<>();
+        for (Word word : words) {
+            if (!keys.add(WordManager.toKey(word.getSpanish()))) {
+                fail(what + "에 중복 단어가 있습니다: " + word.getSpanish());
+                return;
+            }
+        }
+    }
+
+    private void checkSameWords(List<Word> expected, List<Word> actual, String what) {
+        if (expected.size() != actual.size()) {
+            fail(what + ": 크기 " + expected.size() + ", 실제 " + actual.size());
+            return;
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            Word a = expected.get(i);
+            Word b = actual.get(i);
+            if (!a.getSpanish().equals(b.getSpanish()) || !a.getKorean().equals(b.getKorean())
+                    || !a.getExample().equals(b.getExample())) {
+                fail(what + ": " + i + "번째가 " + a.getSpanish() + ", 실제 " + b.getSpanish());
+                return;
+            }
+        }
+    }
+
+    private static boolean sameKey(Word a, Word b) {
+        return WordManager.toKey(a.getSpanish()).equals(WordManager.toKey(b.getSpanish()));
+    }
+
+    // 대소문자만 다른 같은 단어도 섞어서 (대소문자 무시 중복 처리 확인)
+    private static String randomSpanish(Random random) {
+        int n = random.nextInt(KEY_SPACE);
+        return (random.nextInt(8) == 0 ? "Palabra" : "palabra") + n;
+    }
+
+    // 한국어 뜻은 단어마다 달라서 객관식 보기가 겹치면 바로 드러납니다.
+    private Word newWord(String spanish) {
+        return new Word(spanish, "뜻" + uniqueCounter.incrementAndGet(), "ejemplo, \"" + spanish + "\"");
+    }
+
+    private List<Word> randomWords(Random random, int count) {
+        List<Word> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            words.add(newWord(randomSpanish(random)));
+        }
+        return words;
+    }
+
+    // 다른 이름으로 다 쓴 뒤 바꿔치기 (WordManager의 임시 파일과 겹치지 않는 이름으로)
+    private static void writeDeckFile(Path target, List<Word> words) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".stress.tmp");
+        List<String> lines = new ArrayList<>(words.size());
+        for (Word word : words) {
+            lines.add(word.toCsvString());
+        }
+        Files.write(temp, lines);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
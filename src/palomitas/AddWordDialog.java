@@ -1,9 +1,17 @@
 package palomitas;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.util.List;
+import java.util.function.BiFunction;
 
 public class AddWordDialog extends JDialog {
     private JTextField spanishField;
@@ -15,6 +23,13 @@ public class AddWordDialog extends JDialog {
     private WordManager wordManager;
     private Runnable onSaveAction; // 저장 후 실행될 액션 (예: 테이블 새로고침)
 
+    // 입력하는 동안 보여주는 자동 완성 목록과 중복 경고 (단어장의 접두사 트리로 바로 확인)
+    private static final int MAX_COMPLETIONS = 8;
+    private WordTermIndex termIndex; // 아직 만드는 중이면 null (EDT에서만 접근)
+    private JPopupMenu completionPopup;
+    private JLabel warningLabel;
+    private boolean applyingCompletion; // 완성 항목을 필드에 넣는 중에는 목록을 다시 띄우지 않음
+
     // 단어 추가용 생성자
     public AddWordDialog(Frame owner, WordManager wordManager, Runnable onSave) {
         super(owner, "단어 추가", true); // true: Modal 다이얼로그
@@ -22,6 +37,7 @@ public class AddWordDialog extends JDialog {
         this.onSaveAction = onSave;
         this.currentWord = null; // 새 단어 추가 모드
         initUI();
+        attachTermIndex();
     }
 
     // 단어 수정용 생성자
@@ -31,12 +47,13 @@ public class AddWordDialog extends JDialog {
         this.currentWord = wordToEdit;
         this.onSaveAction = onSave;
         initUI();
+        attachTermIndex();
     }
 
 
     private void initUI() {
         setLayout(new BorderLayout(10, 10));
-        setSize(400, 220); // 높이 약간 늘림
+        setSize(400, 240); // 경고 줄만큼 높이 늘림
         setLocationRelativeTo(getOwner()); // 부모 창 중앙에 표시
 
         JPanel formPanel = new JPanel(new GridLayout(3, 2, 5, 5));
@@ -56,6 +73,14 @@ public class AddWordDialog extends JDialog {
 
         add(formPanel, BorderLayout.CENTER);
 
+        completionPopup = new JPopupMenu();
+        completionPopup.setFocusable(false); // 입력 중인 필드에서 포커스를 가져가지 않도록
+        installCompletion(spanishField, (text, limit) -> termIndex.completeSpanish(text, limit));
+        installCompletion(koreanField, (text, limit) -> termIndex.completeKorean(text, limit));
+
+        warningLabel = new JLabel(" ");
+        warningLabel.setBorder(BorderFactory.createEmptyBorder(0, 10, 0, 10));
+
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         buttonPanel.setBorder(BorderFactory.createEmptyBorder(0, 10, 10, 10));
 
@@ -78,7 +103,11 @@ public class AddWordDialog extends JDialog {
 
         buttonPanel.add(saveButton);
         buttonPanel.add(cancelButton);
-        add(buttonPanel, BorderLayout.SOUTH);
+
+        JPanel southPanel = new JPanel(new BorderLayout());
+        southPanel.add(warningLabel, BorderLayout.NORTH);
+        southPanel.add(buttonPanel, BorderLayout.SOUTH);
+        add(southPanel, BorderLayout.SOUTH);
 
         // 수정 모드일 때 필드 채우기 및 창 제목 변경
         if (currentWord != null) {
@@ -93,6 +122,121 @@ public class AddWordDialog extends JDialog {
         }
     }
 
+    // 접두사 트리가 이미 있으면 바로 쓰고, 시작 직후라 아직 만드는 중이면 창은 먼저 띄우고 다 만들어지면 붙입니다.
+    // (큰 단어장에서 트리를 만드는 동안 EDT가 멈추지 않도록. 그동안은 자동 완성과 중복 경고만 없습니다)
+    private void attachTermIndex() {
+        termIndex = wordManager.getTermIndexIfBuilt();
+        if (termIndex != null) {
+            updateWarning();
+            return;
+        }
+        new SwingWorker<WordTermIndex, Void>() {
+            @Override
+            protected WordTermIndex doInBackground() {
+                return wordManager.getTermIndex();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    termIndex = get();
+                    updateWarning();
+                } catch (Exception e) {
+                    System.err.println("자동 완성 색인 준비 중 오류 발생: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    // 필드 아래에 접두사 트리의 완성 목록을 띄우고, 고르면 그 단어로 채웁니다.
+    private void installCompletion(JTextField field, BiFunction<String, Integer, List<String>> completer) {
+        field.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) { textChanged(); }
+            @Override
+            public void removeUpdate(DocumentEvent e) { textChanged(); }
+            @Override
+            public void changedUpdate(DocumentEvent e) { textChanged(); }
+
+            private void textChanged() {
+                updateWarning();
+                if (!applyingCompletion && termIndex != null && field.isFocusOwner()) {
+                    showCompletions(field, completer.apply(field.getText(), MAX_COMPLETIONS));
+                }
+            }
+        });
+        field.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                completionPopup.setVisible(false);
+            }
+        });
+        field.addKeyListener(new KeyAdapter() {
+            @Override
+            public void keyPressed(KeyEvent e) {
+                if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
+                    completionPopup.setVisible(false);
+                }
+            }
+        });
+    }
+
+    private void showCompletions(JTextField field, List<String> completions) {
+        completionPopup.setVisible(false);
+        completionPopup.removeAll();
+        String typed = field.getText().trim();
+        if (completions.isEmpty() || (completions.size() == 1 && completions.get(0).equalsIgnoreCase(typed))) {
+            return; // 보여줄 것이 없거나 이미 그 단어를 다 입력함
+        }
+        for (String completion : completions) {
+            JMenuItem item = new JMenuItem(completion);
+            item.addActionListener(e -> {
+                applyingCompletion = true;
+                try {
+                    field.setText(completion);
+                } finally {
+                    applyingCompletion = false;
+                }
+                field.requestFocusInWindow();
+            });
+            completionPopup.add(item);
+        }
+        completionPopup.show(field, 0, field.getHeight());
+    }
+
+    // 입력하는 동안 중복을 바로 알려줍니다. (저장할 때의 확인은 그대로 둡니다)
+    private void updateWarning() {
+        if (termIndex == null) {
+            return; // 아직 접두사 트리를 만드는 중
+        }
+        String spanish = spanishField.getText().trim();
+        String korean = koreanField.getText().trim();
+
+        boolean ownSpanish = currentWord != null && currentWord.getSpanish().equalsIgnoreCase(spanish);
+        if (!spanish.isEmpty() && !ownSpanish && termIndex.containsSpanish(spanish)) {
+            warningLabel.setForeground(Color.RED);
+            warningLabel.setText("이미 존재하는 스페인어 단어입니다.");
+            return;
+        }
+
+        int sameMeaning = korean.isEmpty() ? 0 : termIndex.countKorean(korean);
+        if (currentWord != null && PrefixTrie.fold(currentWord.getKorean()).equals(PrefixTrie.fold(korean))) {
+            sameMeaning--; // 수정 중인 단어 자신은 빼고 셈
+        }
+        if (sameMeaning > 0) {
+            warningLabel.setForeground(Color.GRAY);
+            warningLabel.setText("같은 뜻의 단어가 " + sameMeaning + "개 있습니다.");
+        } else {
+            warningLabel.setText(" ");
+        }
+    }
+
+    @Override
+    public void dispose() {
+        completionPopup.setVisible(false);
+        super.dispose();
+    }
+
     private void saveWord() {
         String spanish = spanishField.getText().trim();
         String korean = koreanField.getText().trim();
@@ -105,7 +249,7 @@ public class AddWordDialog extends JDialog {
 
         if (currentWord == null) { // 새 단어 추가 모드
             // 추가하려는 스페인어 단어가 이미 존재하는지 확인
-            if (wordManager.getAllWords().stream().anyMatch(w -> w.getSpanish().equalsIgnoreCase(spanish))) {
+            if (wordManager.containsWord(spanish)) {
                 JOptionPane.showMessageDialog(this, "이미 존재하는 스페인어 단어입니다.", "중복 오류", JOptionPane.WARNING_MESSAGE);
                 return;
             }
@@ -117,16 +261,14 @@ public class AddWordDialog extends JDialog {
             // 스페인어 단어(PK)가 변경되었는지 확인
             if (!oldSpanish.equalsIgnoreCase(spanish)) {
                 // PK가 변경되었다면, 변경하려는 새 스페인어 단어가 다른 단어와 중복되는지 확인
-                 if (wordManager.getAllWords().stream().anyMatch(w -> w.getSpanish().equalsIgnoreCase(spanish))) {
+                 if (wordManager.containsWord(spanish)) {
                     JOptionPane.showMessageDialog(this, "수정하려는 스페인어 단어 '" + spanish + "'가 이미 다른 단어로 존재합니다.", "중복 오류", JOptionPane.WARNING_MESSAGE);
                     return;
                 }
             }
-            // Word 객체 정보 업데이트
-            currentWord.setSpanish(spanish); // spanishField가 editable=true일 때만 의미 있음
-            currentWord.setKorean(korean);
-            currentWord.setExample(example);
-            wordManager.updateWord(oldSpanish, currentWord); // WordManager를 통해 업데이트
+            // 기존 객체를 고치지 않고 새 Word로 바꿔 넣습니다. (변경 알림을 받는 쪽이 이전 값을 볼 수 있도록)
+            Word updatedWord = new Word(spanish, korean, example);
+            wordManager.updateWord(oldSpanish, updatedWord); // WordManager를 통해 업데이트
         }
 
         if (onSaveAction != null) {
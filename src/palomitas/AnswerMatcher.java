@@ -0,0 +1,185 @@
+package palomitas;
+
+// 주관식 답 채점. 기본은 대소문자만 무시하고 정확히 같아야 정답이며,
+// 설정에 따라 악센트를 무시하거나(á == a, ñ == n) 오타 몇 개(편집 거리)까지 "아까운 오답"으로 인정합니다.
+//
+// 채점 중에는 trim, toLowerCase, 정규화 문자열을 만들지 않고 글자 단위로 비교합니다.
+// 편집 거리는 정답 글자마다 비트 하나를 쓰는 비트 병렬 방식(Myers)으로 구합니다. 정답의 글자별 비트 마스크 표를
+// 채운 뒤(오타 비교까지 갈 때만) 입력 한 글자당 표 조회와 long 연산 몇 번이면 되며,
+// 허용 거리를 넘는 것이 확실해지면 바로 멈춥니다. 마스크 표는 스레드마다 하나를 재사용하고
+// 쓴 칸(정답 글자 수만큼)만 비우므로 채점할 때 새로 할당하지 않습니다.
+// 정답이 64자를 넘으면 오타 허용 없이 비교합니다.
+// 설정은 바뀌지 않으므로 여러 스레드가 한 객체를 함께 써도 됩니다.
+public class AnswerMatcher {
+    public enum Result {
+        CORRECT,   // 정답 (악센트 무시 모드에서는 악센트만 다른 경우 포함)
+        NEAR_MISS, // 허용 거리 안의 오타: 정답으로 치되 따로 알려줌
+        WRONG
+    }
+
+    public static final AnswerMatcher EXACT = new AnswerMatcher(0, false);
+
+    private static final int MAX_PATTERN_LENGTH = 64;
+    private static final int MASK_TABLE_SIZE = 128; // 정답 글자 수(64 이하)의 두 배: 열린 주소 해시 표가 반 이상 차지 않도록
+    private static final int CHARS_PER_TYPO = 4; // 정답 네 글자마다 오타 하나까지 (짧은 단어가 다른 단어로 인정되지 않도록)
+
+    private final int maxDistance;
+    private final boolean ignoreAccents;
+
+    // 정답에 나오는 글자 -> 그 글자가 있는 위치의 비트 (정답에 없는 글자는 0). 열린 주소 해시 표
+    private static final class MaskTable {
+        final char[] chars = new char[MASK_TABLE_SIZE];
+        final long[] masks = new long[MASK_TABLE_SIZE]; // 0이면 빈 칸 (들어간 글자는 비트가 하나 이상)
+        final int[] usedSlots = new int[MAX_PATTERN_LENGTH]; // 다 쓴 뒤 비울 칸
+        int usedCount;
+
+        // c가 들어 있는 칸, 없으면 c가 들어갈 빈 칸 (선형 탐사)
+        int slotOf(char c) {
+            int slot = (c * 0x9E3779B1) >>> 25; // 상위 7비트: 0..127
+            while (masks[slot] != 0 && chars[slot] != c) {
+                slot = (slot + 1) & (MASK_TABLE_SIZE - 1);
+            }
+            return slot;
+        }
+
+        void add(char c, int position) {
+            int slot = slotOf(c);
+            if (masks[slot] == 0) {
+                chars[slot] = c;
+                usedSlots[usedCount++] = slot;
+            }
+            masks[slot] |= 1L << position;
+        }
+
+        void clear() {
+            for (int i = 0; i < usedCount; i++) {
+                masks[usedSlots[i]] = 0;
+            }
+            usedCount = 0;
+        }
+    }
+
+    private static final ThreadLocal<MaskTable> MASK_TABLES = ThreadLocal.withInitial(MaskTable::new);
+
+    public AnswerMatcher(int maxDistance, boolean ignoreAccents) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("maxDistance는 0 이상이어야 합니다: " + maxDistance);
+        }
+        this.maxDistance = maxDistance;
+        this.ignoreAccents = ignoreAccents;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    public boolean isIgnoreAccents() {
+        return ignoreAccents;
+    }
+
+    public Result match(String answer, String expected) {
+        if (answer == null || expected == null) {
+            return Result.WRONG;
+        }
+        // 앞뒤 공백은 잘라낸 것으로 봅니다.
+        int aStart = skipLeadingSpace(answer);
+        int aEnd = skipTrailingSpace(answer, aStart);
+        int eStart = skipLeadingSpace(expected);
+        int eEnd = skipTrailingSpace(expected, eStart);
+        int n = aEnd - aStart;
+        int m = eEnd - eStart;
+
+        if (n == m && equalsFolded(answer, aStart, expected, eStart, m)) {
+            return Result.CORRECT;
+        }
+        int allowed = Math.min(maxDistance, m / CHARS_PER_TYPO);
+        if (allowed == 0 || m > MAX_PATTERN_LENGTH || Math.abs(n - m) > allowed) {
+            return Result.WRONG;
+        }
+        int distance = boundedDistance(answer, aStart, n, expected, eStart, m, allowed);
+        return distance <= allowed ? Result.NEAR_MISS : Result.WRONG;
+    }
+
+    private boolean equalsFolded(String a, int aStart, String b, int bStart, int length) {
+        for (int i = 0; i < length; i++) {
+            if (fold(a.charAt(aStart + i)) != fold(b.charAt(bStart + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 정답(pattern) 길이 m <= 64일 때의 편집 거리. limit을 넘는 것이 확실해지면 limit + 1을 돌려줍니다.
+    // Pv/Mv는 DP 표의 현재 열에서 위아래 칸 차이가 +1/-1인 위치, score는 마지막 행의 값입니다.
+    private int boundedDistance(String text, int tStart, int n, String pattern, int pStart, int m, int limit) {
+        MaskTable table = MASK_TABLES.get();
+        for (int i = 0; i < m; i++) {
+            table.add(fold(pattern.charAt(pStart + i)), i);
+        }
+        try {
+            long[] masks = table.masks;
+            long last = 1L << (m - 1);
+            long pv = m == 64 ? -1L : (1L << m) - 1;
+            long mv = 0;
+            int score = m;
+            for (int j = 0; j < n; j++) {
+                long eq = masks[table.slotOf(fold(text.charAt(tStart + j)))];
+                long xv = eq | mv;
+                long xh = (((eq & pv) + pv) ^ pv) | eq;
+                long ph = mv | ~(xh | pv);
+                long mh = pv & xh;
+                if ((ph & last) != 0) {
+                    score++;
+                } else if ((mh & last) != 0) {
+                    score--;
+                }
+                ph = (ph << 1) | 1; // 첫 행은 0, 1, 2, ... (앞부분을 건너뛸 수 없는 전체 비교)
+                mh <<= 1;
+                pv = mh | ~(xv | ph);
+                mv = ph & xv;
+                // 남은 글자마다 최대 1씩만 줄어들 수 있음
+                if (score - (n - j - 1) > limit) {
+                    return limit + 1;
+                }
+            }
+            return score;
+        } finally {
+            table.clear(); // 다음 채점을 위해 쓴 칸만 비움
+        }
+    }
+
+    private char fold(char c) {
+        c = Character.toLowerCase(c);
+        return ignoreAccents ? stripAccent(c) : c;
+    }
+
+    // 스페인어에 나오는 악센트 글자만 기본 글자로 바꿉니다. (ñ는 한국어 자판에서 치기 어려워 n과 같게 봅니다)
+    private static char stripAccent(char c) {
+        switch (c) {
+            case 'á': case 'à': case 'â': case 'ä': return 'a';
+            case 'é': case 'è': case 'ê': case 'ë': return 'e';
+            case 'í': case 'ì': case 'î': case 'ï': return 'i';
+            case 'ó': case 'ò': case 'ô': case 'ö': return 'o';
+            case 'ú': case 'ù': case 'û': case 'ü': return 'u';
+            case 'ñ': return 'n';
+            case 'ç': return 'c';
+            default: return c;
+        }
+    }
+
+    private static int skipLeadingSpace(String s) {
+        int i = 0;
+        while (i < s.length() && s.charAt(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipTrailingSpace(String s, int start) {
+        int end = s.length();
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,160 @@
+package palomitas;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+// RFC 4180 형식의 CSV를 한 번의 순회로 읽는 리더
+// - 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈, 이중 큰따옴표("")를 처리합니다.
+// - 내부 char 버퍼와 StringBuilder를 재사용하므로 레코드마다 생기는 객체는 필드 문자열뿐입니다.
+// - 빈 줄은 건너뛰고, 파일 맨 앞의 BOM은 무시합니다.
+public class CsvReader implements Closeable {
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Reader in; // 고정된 char 배열을 읽을 때는 null
+    private final char[] buf;
+    private int pos;
+    private int limit;
+    private final StringBuilder field = new StringBuilder();
+    private boolean atStart = true;
+
+    public CsvReader(Reader in) {
+        this.in = in;
+        this.buf = new char[BUFFER_SIZE];
+    }
+
+    // 이미 메모리에 있는 문자 범위를 그대로 읽습니다. (복사하지 않음)
+    public CsvReader(char[] chars, int offset, int length) {
+        this.in = null;
+        this.buf = chars;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    // 다음 레코드의 필드들을 out에 채웁니다. 더 읽을 레코드가 없으면 false를 반환합니다.
+    public boolean readRecord(List<String> out) throws IOException {
+        out.clear();
+        if (atStart) {
+            atStart = false;
+            if (ensure() && buf[pos] == '\uFEFF') pos++;
+        }
+        while (true) {
+            if (!ensure()) {
+                return false;
+            }
+            readFields(out);
+            if (out.size() == 1 && out.get(0).trim().isEmpty()) {
+                out.clear(); // 빈 줄은 건너뜀
+                continue;
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) in.close();
+    }
+
+    // 버퍼에 읽을 문자가 있도록 채웁니다. 입력이 끝났으면 false.
+    private boolean ensure() throws IOException {
+        if (pos < limit) return true;
+        if (in == null) return false;
+        int n;
+        do {
+            n = in.read(buf, 0, buf.length);
+        } while (n == 0);
+        if (n < 0) return false;
+        pos = 0;
+        limit = n;
+        return true;
+    }
+
+    // 한 레코드의 필드를 줄 끝(또는 입력 끝)까지 읽습니다.
+    private void readFields(List<String> out) throws IOException {
+        while (true) {
+            boolean endOfRecord;
+            if (buf[pos] == '"') {
+                pos++;
+                endOfRecord = readQuotedField(out);
+            } else {
+                endOfRecord = readPlainField(out);
+            }
+            if (endOfRecord) return;
+            if (!ensure()) { // 쉼표로 끝난 마지막 줄: 빈 필드 하나 더
+                out.add("");
+                return;
+            }
+        }
+    }
+
+    // 따옴표 없는 필드: 쉼표나 줄 끝까지. 필드가 버퍼 안에 다 있으면 버퍼에서 바로 문자열을 만듭니다.
+    private boolean readPlainField(List<String> out) throws IOException {
+        int start = pos;
+        field.setLength(0);
+        boolean copied = false; // 버퍼 경계를 넘어 StringBuilder로 옮겨 담았는지
+        while (true) {
+            if (pos >= limit) {
+                field.append(buf, start, pos - start);
+                copied = true;
+                if (!ensure()) {
+                    out.add(field.toString());
+                    return true;
+                }
+                start = pos;
+            }
+            char c = buf[pos];
+            if (c == ',' || c == '\n' || c == '\r') {
+                if (copied) {
+                    field.append(buf, start, pos - start);
+                    out.add(field.toString());
+                } else {
+                    out.add(new String(buf, start, pos - start));
+                }
+                pos++;
+                if (c == ',') return false;
+                skipLineFeedAfter(c);
+                return true;
+            }
+            pos++;
+        }
+    }
+
+    // 큰따옴표 필드: 닫는 따옴표까지 읽고("" -> "), 그 뒤의 쉼표나 줄 끝을 소비합니다.
+    private boolean readQuotedField(List<String> out) throws IOException {
+        field.setLength(0);
+        while (true) {
+            if (!ensure()) { // 닫는 따옴표 없이 입력이 끝남: 읽은 데까지를 필드로
+                out.add(field.toString());
+                return true;
+            }
+            int start = pos;
+            while (pos < limit && buf[pos] != '"') pos++;
+            field.append(buf, start, pos - start);
+            if (pos >= limit) continue; // 버퍼를 다시 채워서 계속
+            pos++; // 따옴표
+            if (ensure() && buf[pos] == '"') { // 이중 큰따옴표
+                field.append('"');
+                pos++;
+                continue;
+            }
+            break;
+        }
+        out.add(field.toString());
+        // 닫는 따옴표 뒤: 쉼표나 줄 끝이 와야 하지만, 그 밖의 문자는 관대하게 버립니다.
+        while (ensure()) {
+            char c = buf[pos++];
+            if (c == ',') return false;
+            if (c == '\n' || c == '\r') {
+                skipLineFeedAfter(c);
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private void skipLineFeedAfter(char c) throws IOException {
+        if (c == '\r' && ensure() && buf[pos] == '\n') pos++;
+    }
+}
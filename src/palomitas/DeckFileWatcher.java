@@ -0,0 +1,82 @@
+package palomitas;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+// 단어 파일(words.csv)이 바깥에서 바뀌는 것을 WatchService로 지켜보다가, 변경이 잠잠해지면 onChange를 실행합니다.
+// 동기화 프로그램은 파일을 여러 번에 나눠 쓰거나 임시 파일을 옮겨 놓기도 하므로,
+// 같은 파일에 대한 이벤트가 QUIET_MILLIS 동안 더 오지 않을 때 한 번만 알립니다.
+// 우리 자신이 저장해서 생긴 이벤트도 그대로 전달되므로, 실제로 내용이 바뀌었는지는 onChange 쪽에서 판단합니다.
+public class DeckFileWatcher implements Closeable {
+    private static final long QUIET_MILLIS = 250;
+
+    private final Path file;
+    private final Runnable onChange;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    public DeckFileWatcher(Path file, Runnable onChange) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.onChange = onChange;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        // WatchService는 디렉토리 단위로만 등록할 수 있으므로 상위 디렉토리를 지켜보고 파일 이름으로 거릅니다.
+        this.file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::run, "palomitas-file-watch");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = handleEvents(key);
+                // 잠잠해질 때까지 이어지는 이벤트를 모읍니다.
+                while (changed) {
+                    WatchKey next = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    handleEvents(next);
+                }
+                if (changed) {
+                    try {
+                        onChange.run();
+                    } catch (RuntimeException e) {
+                        System.err.println("단어 파일 변경 처리 중 오류 발생: " + e);
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // close()로 종료
+        }
+    }
+
+    // 이번 키에 지켜보는 파일에 대한 이벤트가 있었는지 (넘침 이벤트는 바뀐 것으로 봅니다)
+    private boolean handleEvents(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+}
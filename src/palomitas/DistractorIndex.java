@@ -0,0 +1,149 @@
+package palomitas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+// 객관식 보기를 헷갈리게 고르기 위한 색인. 정답과 앞부분/뒷부분이 같거나 길이가 같은 단어를 바로 찾습니다.
+// (예: "바다" -> "바닥", "바람" / "canción" -> "camión", "acción")
+// 단어장 스냅샷 하나와 보기로 쓰는 쪽(스페인어 또는 한국어 뜻)마다 한 번 만들고, 같은 스냅샷이면 퀴즈끼리 함께 씁니다.
+// 조회는 정답이 들어갈 묶음 몇 개에서 임의의 위치를 몇 번 뽑는 것이 전부라 단어장 크기와 상관없습니다.
+public class DistractorIndex {
+    public enum Difficulty {
+        EASY,   // 단어장 전체에서 무작위 (기존 방식)
+        MEDIUM, // 길이가 같은 단어
+        HARD    // 앞 글자나 끝 글자가 같은 단어, 없으면 길이가 같은 단어
+    }
+
+    private static final int MAX_LENGTH_BUCKET = 32; // 이보다 긴 단어는 한 묶음으로
+    private static DistractorIndex lastSpanishIndex; // 마지막으로 만든 색인 (DistractorIndex.class로 동기화)
+    private static DistractorIndex lastKoreanIndex;
+
+    private final List<Word> words;
+    private final boolean spanish; // true면 스페인어, false면 한국어 뜻으로 비교
+    private final Map<String, int[]> prefixBuckets;
+    private final Map<String, int[]> suffixBuckets;
+    private final int[][] lengthBuckets;
+
+    private DistractorIndex(List<Word> words, boolean spanish) {
+        this.words = words;
+        this.spanish = spanish;
+        Map<String, IntList> prefixes = new HashMap<>();
+        Map<String, IntList> suffixes = new HashMap<>();
+        IntList[] lengths = new IntList[MAX_LENGTH_BUCKET + 1];
+        for (int row = 0; row < words.size(); row++) {
+            String text = fold(textOf(words.get(row)));
+            if (text.isEmpty()) continue;
+            prefixes.computeIfAbsent(prefixKey(text), k -> new IntList()).add(row);
+            suffixes.computeIfAbsent(suffixKey(text), k -> new IntList()).add(row);
+            int length = Math.min(text.length(), MAX_LENGTH_BUCKET);
+            if (lengths[length] == null) lengths[length] = new IntList();
+            lengths[length].add(row);
+        }
+        this.prefixBuckets = toArrays(prefixes);
+        this.suffixBuckets = toArrays(suffixes);
+        this.lengthBuckets = new int[lengths.length][];
+        for (int i = 0; i < lengths.length; i++) {
+            lengthBuckets[i] = lengths[i] == null ? new int[0] : lengths[i].toArray();
+        }
+    }
+
+    // 같은 스냅샷이면 이미 만든 색인을 돌려줍니다. (getAllWords()는 version이 같으면 같은 객체를 돌려주므로)
+    public static synchronized DistractorIndex forWords(List<Word> words, boolean spanish) {
+        DistractorIndex last = spanish ? lastSpanishIndex : lastKoreanIndex;
+        if (last != null && last.words == words) {
+            return last;
+        }
+        DistractorIndex index = new DistractorIndex(words, spanish);
+        if (spanish) {
+            lastSpanishIndex = index;
+        } else {
+            lastKoreanIndex = index;
+        }
+        return index;
+    }
+
+    // 정답과 비슷한 단어 후보를 가까운 묶음부터 최대 limit개. 정답과 글자가 같은 단어는 뺍니다.
+    // 묶음마다 임의의 위치를 몇 번만 뽑으므로 후보가 모자랄 수 있고, 나머지는 호출하는 쪽에서 채웁니다.
+    public List<Word> candidates(String answerText, Difficulty difficulty, int limit, Random random) {
+        List<Word> result = new ArrayList<>();
+        String answer = fold(answerText);
+        if (answer.isEmpty() || difficulty == Difficulty.EASY) {
+            return result;
+        }
+        HashSet<Integer> seenRows = new HashSet<>();
+        int[] sameLength = lengthBuckets[Math.min(answer.length(), MAX_LENGTH_BUCKET)];
+        if (difficulty == Difficulty.HARD) {
+            drawFrom(prefixBuckets.get(prefixKey(answer)), answer, limit, random, seenRows, result);
+            drawFrom(suffixBuckets.get(suffixKey(answer)), answer, limit, random, seenRows, result);
+        }
+        drawFrom(sameLength, answer, limit, random, seenRows, result);
+        return result;
+    }
+
+    private void drawFrom(int[] bucket, String answer, int limit, Random random, HashSet<Integer> seenRows, List<Word> result) {
+        if (bucket == null || bucket.length == 0) return;
+        int draws = limit * 3; // 정답 자신이나 같은 뜻을 뽑아도 몇 번은 더 시도
+        boolean walkAll = bucket.length <= draws; // 작은 묶음은 임의의 위치부터 한 바퀴 돌며 모두 봅니다.
+        int start = random.nextInt(bucket.length);
+        for (int i = 0; i < Math.min(draws, bucket.length) && result.size() < limit; i++) {
+            int row = walkAll ? bucket[(start + i) % bucket.length] : bucket[random.nextInt(bucket.length)];
+            if (!seenRows.add(row)) continue;
+            Word word = words.get(row);
+            if (!fold(textOf(word)).equals(answer)) {
+                result.add(word);
+            }
+        }
+    }
+
+    private String textOf(Word word) {
+        return spanish ? word.getSpanish() : word.getKorean();
+    }
+
+    private static String fold(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 네 글자 이상이면 두 글자, 짧으면 한 글자로 묶습니다. (짧은 단어는 두 글자가 거의 단어 전체라서)
+    private static int affixLength(String text) {
+        return text.length() >= 4 ? 2 : 1;
+    }
+
+    private static String prefixKey(String text) {
+        return text.substring(0, affixLength(text));
+    }
+
+    private static String suffixKey(String text) {
+        return text.substring(text.length() - affixLength(text));
+    }
+
+    private static Map<String, int[]> toArrays(Map<String, IntList> lists) {
+        Map<String, int[]> arrays = new HashMap<>(lists.size() * 2);
+        for (Map.Entry<String, IntList> entry : lists.entrySet()) {
+            arrays.put(entry.getKey(), entry.getValue().toArray());
+        }
+        return arrays;
+    }
+
+    // 만드는 동안만 쓰는 int 목록 (Integer 상자 없이)
+    private static class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package palomitas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 기본 저장 방식: Word 객체 목록과, 소문자로 접은 스페인어 단어 -> Word 색인을 함께 유지합니다.
+//
+// 삭제와 수정은 목록에서 위치를 찾고(indexOf) 뒤쪽을 당기므로 O(N)입니다. 일부러 이렇게 둡니다:
+// 변경 알림과 표의 행 번호가 추가된 순서의 위치를 쓰므로 마지막 단어를 빈자리로 옮기는 O(1) 삭제는 순서를 바꾸고,
+// 위치 색인을 두어도 삭제할 때마다 뒤쪽 단어들의 위치를 고쳐야 해 O(N)은 그대로입니다.
+// 두 번의 훑기는 참조 배열을 한 번 지나가는 것과 같아 100만 단어에서도 한 번에 1ms 남짓이고,
+// 단어를 한꺼번에 바꾸는 경로(로드, 바깥 파일 반영의 큰 변경)는 단어별 삭제 대신 보관소를 다시 채웁니다.
+public class HeapWordStore implements WordStore {
+    private final List<Word> wordList = new ArrayList<>();
+    private final Map<String, Word> wordIndex = new HashMap<>();
+
+    @Override
+    public int size() {
+        return wordList.size();
+    }
+
+    @Override
+    public Word get(int index) {
+        return wordList.get(index);
+    }
+
+    @Override
+    public Word find(String spanish) {
+        return wordIndex.get(WordManager.toKey(spanish));
+    }
+
+    @Override
+    public boolean add(Word word) {
+        String key = WordManager.toKey(word.getSpanish());
+        if (wordIndex.containsKey(key)) {
+            return false;
+        }
+        wordIndex.put(key, word);
+        wordList.add(word);
+        return true;
+    }
+
+    @Override
+    public int remove(String spanish) {
+        Word wordToRemove = wordIndex.remove(WordManager.toKey(spanish));
+        if (wordToRemove == null) {
+            return -1;
+        }
+        int index = wordList.indexOf(wordToRemove); // Word는 equals를 재정의하지 않으므로 참조 비교로 찾습니다.
+        wordList.remove(index);
+        return index;
+    }
+
+    @Override
+    public int replace(String oldSpanish, Word newWord) {
+        String oldKey = WordManager.toKey(oldSpanish);
+        Word existing = wordIndex.remove(oldKey);
+        if (existing == null) {
+            return -1;
+        }
+        int index = wordList.indexOf(existing);
+        wordList.set(index, newWord);
+        wordIndex.put(WordManager.toKey(newWord.getSpanish()), newWord);
+        return index;
+    }
+
+    @Override
+    public void clear() {
+        wordList.clear();
+        wordIndex.clear();
+    }
+
+    @Override
+    public List<Word> asList() {
+        return Collections.unmodifiableList(wordList);
+    }
+
+    @Override
+    public List<Word> snapshot() {
+        return Collections.unmodifiableList(Arrays.asList(wordList.toArray(new Word[0])));
+    }
+}
@@ -0,0 +1,75 @@
+package palomitas;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 문제마다 답하는 데 걸린 시간을 퀴즈 유형별, 단어별 히스토그램으로 모읍니다.
+// 히스토그램 하나의 크기는 고정이므로, 메모리는 기록 수가 아니라 나온 단어 수에만 비례합니다.
+// 퀴즈마다 하나씩 쓰고, 프로그램이 실행되는 동안의 합계는 getSession()에 모입니다.
+// 세션 합계는 나온 단어가 끝없이 늘 수 있으므로 퀴즈 유형별로만 모읍니다. (메모리는 유형 수만큼으로 고정)
+public class LatencyStats {
+    private static final LatencyStats SESSION = new LatencyStats(false);
+
+    private final boolean trackWords; // 단어별 히스토그램도 모을지 (퀴즈 하나 안에서는 문제 수만큼이라 괜찮음)
+
+    private final Map<Quiz.QuizType, LatencyHistogram> byQuizType = new EnumMap<>(Quiz.QuizType.class);
+    private final Map<String, LatencyHistogram> byWord = new HashMap<>(); // 키: WordManager.toKey(스페인어)
+    private final Map<String, Word> words = new HashMap<>(); // 키별로 마지막으로 본 단어 (표시용)
+
+    public LatencyStats() {
+        this(true);
+    }
+
+    private LatencyStats(boolean trackWords) {
+        this.trackWords = trackWords;
+    }
+
+    // 프로그램이 실행되는 동안 푼 모든 퀴즈의 합계 (퀴즈 유형별만. forWord, slowestWords는 비어 있음)
+    public static LatencyStats getSession() {
+        return SESSION;
+    }
+
+    public synchronized void record(Word word, Quiz.QuizType quizType, long millis) {
+        byQuizType.computeIfAbsent(quizType, t -> new LatencyHistogram()).record(millis);
+        if (!trackWords) {
+            return;
+        }
+        String key = WordManager.toKey(word.getSpanish());
+        byWord.computeIfAbsent(key, k -> new LatencyHistogram()).record(millis);
+        words.put(key, word);
+    }
+
+    // 기록이 없으면 빈 히스토그램
+    public synchronized LatencyHistogram forQuizType(Quiz.QuizType quizType) {
+        LatencyHistogram histogram = byQuizType.get(quizType);
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    public synchronized LatencyHistogram forWord(Word word) {
+        LatencyHistogram histogram = byWord.get(WordManager.toKey(word.getSpanish()));
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    // 모든 퀴즈 유형을 합친 히스토그램
+    public synchronized LatencyHistogram overall() {
+        LatencyHistogram total = new LatencyHistogram();
+        for (LatencyHistogram histogram : byQuizType.values()) {
+            total.add(histogram);
+        }
+        return total;
+    }
+
+    // 중앙값이 가장 긴 단어부터 최대 limit개 (다시 연습할 단어)
+    public synchronized List<Word> slowestWords(int limit) {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(byWord.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().percentile(50), a.getValue().percentile(50)));
+        List<Word> result = new ArrayList<>();
+        for (int i = 0; i < entries.size() && result.size() < limit; i++) {
+            result.add(words.get(entries.get(i).getKey()));
+        }
+        return result;
+    }
+}
@@ -4,28 +4,38 @@ import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import javax.swing.filechooser.FileNameExtensionFilter;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.*; // <<<--- 단축키 때문에 KeyEvent 추가
 import java.io.File;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
+import java.util.concurrent.ExecutionException;
 
 public class MainApp {
     private JFrame frame;
     private WordManager wordManager;
     private JTable wordTable;
-    private DefaultTableModel tableModel;
+    private WordTableModel tableModel; // 단어장 변경 알림을 받아 바뀐 행만 갱신
     private JTextField searchField;
-    private TableRowSorter<DefaultTableModel> sorter;
+    private TableRowSorter<WordTableModel> sorter;
+
+    // 검색: 입력이 잠시 멈추면 한 번만 검색하고, 색인은 단어장이 바뀐 뒤 처음 검색할 때 백그라운드에서 다시 만듭니다.
+    private static final int SEARCH_DELAY_MILLIS = 200;
+    // 검색 중에 단어장이 바뀌면 다시 검색하되, 가져오기처럼 변경이 이어지면 이 간격에 한 번만 (색인을 매번 다시 만들지 않도록)
+    private static final int RESEARCH_INTERVAL_MILLIS = 1000;
+    private Timer searchTimer;
+    private Timer researchTimer;
+    private volatile WordSearchIndex searchIndex;
+    private int searchGeneration; // 오래된 검색 결과를 버리기 위한 번호 (EDT에서만)
 
     public MainApp() {
-        wordManager = new WordManager();
+        wordManager = WordManager.getInstance();
         initializeUI();
-        loadWordsToTable();
+        // 단어 추가 창의 자동 완성 트리를 미리 만들어 둡니다. (큰 단어장에서 첫 추가 창이 멈추지 않도록)
+        Thread termIndexBuilder = new Thread(wordManager::getTermIndex, "palomitas-term-index");
+        termIndexBuilder.setDaemon(true);
+        termIndexBuilder.start();
     }
 
     private void initializeUI() {
@@ -33,6 +43,12 @@ public class MainApp {
         frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         frame.setSize(800, 600);
         frame.setLocationRelativeTo(null);
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                tableModel.dispose();
+            }
+        });
 
         // --- 메뉴 바 ---
         JMenuBar menuBar = new JMenuBar();
@@ -49,7 +65,10 @@ public class MainApp {
 
         importCsvItem.addActionListener(e -> importCsv());
         exportCsvItem.addActionListener(e -> exportCsv());
-        exitItem.addActionListener(e -> System.exit(0));
+        exitItem.addActionListener(e -> {
+            wordManager.flush(); // 백그라운드에 남은 저장을 마치고 종료
+            System.exit(0);
+        });
 
         fileMenu.add(importCsvItem);
         fileMenu.add(exportCsvItem);
@@ -98,11 +117,7 @@ public class MainApp {
         frame.add(topPanel, BorderLayout.NORTH);
 
         // --- 중앙 패널 ---
-        String[] columnNames = {"스페인어", "한국어 뜻", "예문"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) { return false; }
-        };
+        tableModel = new WordTableModel(wordManager);
         wordTable = new JTable(tableModel);
         wordTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         wordTable.setFont(new Font("SansSerif", Font.PLAIN, 14));
@@ -116,10 +131,7 @@ public class MainApp {
                 int row = table.rowAtPoint(point);
                 if (mouseEvent.getClickCount() == 2 && table.getSelectedRow() != -1) {
                     int modelRow = table.convertRowIndexToModel(row);
-                    String spanishToEdit = (String) tableModel.getValueAt(modelRow, 0);
-                    Word wordToEdit = wordManager.getAllWords().stream()
-                            .filter(w -> w.getSpanish().equals(spanishToEdit))
-                            .findFirst().orElse(null);
+                    Word wordToEdit = wordManager.getWord(tableModel.getWordAt(modelRow).getSpanish());
                     if (wordToEdit != null) {
                         openAddOrEditWordDialog(wordToEdit);
                     }
@@ -135,48 +147,100 @@ public class MainApp {
         sorter = new TableRowSorter<>(tableModel);
         wordTable.setRowSorter(sorter);
 
+        searchTimer = new Timer(SEARCH_DELAY_MILLIS, e -> startSearch());
+        searchTimer.setRepeats(false);
+        researchTimer = new Timer(RESEARCH_INTERVAL_MILLIS, e -> startSearch());
+        researchTimer.setRepeats(false);
+        // 검색 중에 단어장이 바뀌면 바뀐 단어장으로 다시 검색합니다. 첫 변경에서 타이머를 걸고 그 뒤 변경은 같은 검색에 묶습니다.
+        // (다시 검색하기 전까지 바뀐 행은 SearchFilter가 단어를 직접 확인합니다)
+        tableModel.addTableModelListener(e -> {
+            if (sorter.getRowFilter() != null && !researchTimer.isRunning()) {
+                researchTimer.start();
+            }
+        });
+
         searchField.getDocument().addDocumentListener(new DocumentListener() {
-            public void changedUpdate(DocumentEvent e) { filterTable(); }
-            public void removeUpdate(DocumentEvent e) { filterTable(); }
-            public void insertUpdate(DocumentEvent e) { filterTable(); }
+            public void changedUpdate(DocumentEvent e) { searchTimer.restart(); }
+            public void removeUpdate(DocumentEvent e) { searchTimer.restart(); }
+            public void insertUpdate(DocumentEvent e) { searchTimer.restart(); }
         });
 
         frame.setVisible(true);
     }
-    
-    // 이 아래 메소드들은 변경사항 없습니다.
-    private void filterTable() {
-        String searchText = searchField.getText().toLowerCase();
+
+    // 입력이 SEARCH_DELAY_MILLIS 동안 멈추거나 검색 중에 단어장이 바뀌면 호출: 색인 검색은 백그라운드에서 하고, 결과만 EDT에서 필터로 적용합니다.
+    private void startSearch() {
+        researchTimer.stop(); // 이 검색이 그사이의 변경까지 반영함
+        String searchText = searchField.getText();
+        int generation = ++searchGeneration;
         if (searchText.trim().length() == 0) {
             sorter.setRowFilter(null);
-        } else {
-            try {
-                List<RowFilter<Object, Object>> rfs = new ArrayList<>();
-                rfs.add(RowFilter.regexFilter("(?i)" + Pattern.quote(searchText), 0));
-                rfs.add(RowFilter.regexFilter("(?i)" + Pattern.quote(searchText), 1));
-                rfs.add(RowFilter.regexFilter("(?i)" + Pattern.quote(searchText), 2));
-                sorter.setRowFilter(RowFilter.orFilter(rfs));
-            } catch (PatternSyntaxException e) {
-                System.err.println("검색어 정규식 오류: " + e.getMessage());
-                sorter.setRowFilter(null);
+            return;
+        }
+        String query = WordSearchIndex.fold(searchText);
+        new SwingWorker<BitSet, Void>() {
+            private long hitsVersion;
+
+            @Override
+            protected BitSet doInBackground() {
+                WordSearchIndex index = searchIndexFor(wordManager.getAllWords());
+                hitsVersion = index.getVersion();
+                return index.search(query);
+            }
+
+            @Override
+            protected void done() {
+                if (generation != searchGeneration) {
+                    return; // 그 사이에 검색어가 바뀜
+                }
+                try {
+                    sorter.setRowFilter(new SearchFilter(query, get(), hitsVersion));
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("검색 중 오류 발생: " + e.getCause());
+                }
             }
+        }.execute();
+    }
+
+    // 단어장이 바뀌었을 때만 색인을 다시 만듭니다. (검색 작업 스레드에서 호출)
+    private synchronized WordSearchIndex searchIndexFor(WordSnapshot snapshot) {
+        WordSearchIndex index = searchIndex;
+        if (index == null || index.getVersion() != snapshot.getVersion()) {
+            index = WordSearchIndex.build(snapshot);
+            searchIndex = index;
         }
+        return index;
     }
 
-    private void loadWordsToTable() {
-        tableModel.setRowCount(0);
-        List<Word> words = wordManager.getAllWords();
-        for (Word word : words) {
-            tableModel.addRow(new Object[]{word.getSpanish(), word.getKorean(), word.getExample()});
+    // 색인 검색 결과로 거르는 필터. 결과가 테이블과 같은 version일 때는 행 번호로 바로 확인하고,
+    // 그 뒤에 테이블이 바뀌어 행 번호가 어긋났다면 새 결과가 올 때까지 그 행의 단어를 직접 확인합니다.
+    private class SearchFilter extends RowFilter<WordTableModel, Integer> {
+        private final String query;
+        private final BitSet hits;
+        private final long hitsVersion;
+
+        SearchFilter(String query, BitSet hits, long hitsVersion) {
+            this.query = query;
+            this.hits = hits;
+            this.hitsVersion = hitsVersion;
+        }
+
+        @Override
+        public boolean include(Entry<? extends WordTableModel, ? extends Integer> entry) {
+            int row = entry.getIdentifier();
+            if (tableModel.getVersion() == hitsVersion) {
+                return hits.get(row);
+            }
+            return WordSearchIndex.matches(tableModel.getWordAt(row), query);
         }
     }
 
     private void openAddOrEditWordDialog(Word wordToEdit) {
         AddWordDialog dialog;
         if (wordToEdit == null) {
-            dialog = new AddWordDialog(frame, wordManager, this::loadWordsToTable);
+            dialog = new AddWordDialog(frame, wordManager, null); // 테이블은 변경 알림으로 갱신됨
         } else {
-            dialog = new AddWordDialog(frame, wordManager, wordToEdit, this::loadWordsToTable);
+            dialog = new AddWordDialog(frame, wordManager, wordToEdit, null);
         }
         dialog.setVisible(true);
     }
@@ -185,16 +249,14 @@ public class MainApp {
         int selectedViewRow = wordTable.getSelectedRow();
         if (selectedViewRow >= 0) {
             int modelRow = wordTable.convertRowIndexToModel(selectedViewRow);
-            String spanishWord = (String) tableModel.getValueAt(modelRow, 0);
+            String spanishWord = tableModel.getWordAt(modelRow).getSpanish();
             int confirm = JOptionPane.showConfirmDialog(frame,
                     "'" + spanishWord + "' 단어를 정말 삭제하시겠습니까?",
                     "단어 삭제 확인",
                     JOptionPane.YES_NO_OPTION,
                     JOptionPane.WARNING_MESSAGE);
             if (confirm == JOptionPane.YES_OPTION) {
-                if (wordManager.removeWord(spanishWord)) {
-                    loadWordsToTable();
-                }
+                wordManager.removeWord(spanishWord);
             }
         } else {
             JOptionPane.showMessageDialog(frame, "삭제할 단어를 테이블에서 선택해주세요.", "알림", JOptionPane.WARNING_MESSAGE);
@@ -202,22 +264,7 @@ public class MainApp {
     }
 
     private void openQuizSetupDialog() {
-        List<Word> allWords = wordManager.getAllWords();
-        if (allWords.isEmpty()) {
-            JOptionPane.showMessageDialog(frame, "퀴즈를 시작하려면 단어장에 단어가 하나 이상 있어야 합니다.", "퀴즈 불가", JOptionPane.WARNING_MESSAGE);
-            return;
-        }
-        QuizSetupDialog setupDialog = new QuizSetupDialog(frame, allWords);
-        setupDialog.setVisible(true);
-        if (setupDialog.didUserStartQuiz() && setupDialog.getSelectedQuestionCount() > 0) {
-            Quiz.QuizType type = setupDialog.getSelectedQuizType();
-            int count = setupDialog.getSelectedQuestionCount();
-            Quiz quiz = new Quiz(allWords, type, count);
-            if (quiz.getTotalQuestionsInQuiz() > 0) {
-                 QuizWindow quizWindow = new QuizWindow(frame, quiz);
-                 quizWindow.setVisible(true);
-            }
-        }
+        QuizLauncher.open(frame, wordManager);
     }
 
     private void importCsv() {
@@ -227,9 +274,27 @@ public class MainApp {
         int userSelection = fileChooser.showOpenDialog(frame);
         if (userSelection == JFileChooser.APPROVE_OPTION) {
             File fileToImport = fileChooser.getSelectedFile();
-            List<String> messages = wordManager.importWordsFromCsv(fileToImport.getAbsolutePath());
-            loadWordsToTable();
-            JOptionPane.showMessageDialog(frame, String.join("\n", messages), "CSV 가져오기 결과", JOptionPane.INFORMATION_MESSAGE);
+            // 파일 읽기와 합치기는 백그라운드에서 하고, 추가된 단어는 묶음마다 변경 알림으로 테이블에 나타납니다.
+            ProgressDialog progressDialog = new ProgressDialog(frame, "CSV 가져오기");
+            SwingWorker<List<String>, Void> worker = new SwingWorker<List<String>, Void>() {
+                @Override
+                protected List<String> doInBackground() {
+                    return wordManager.importWordsFromCsv(fileToImport.getAbsolutePath(), progressDialog);
+                }
+
+                @Override
+                protected void done() {
+                    progressDialog.dispose();
+                    try {
+                        List<String> messages = get();
+                        JOptionPane.showMessageDialog(frame, String.join("\n", messages), "CSV 가져오기 결과", JOptionPane.INFORMATION_MESSAGE);
+                    } catch (InterruptedException | ExecutionException e) {
+                        JOptionPane.showMessageDialog(frame, "CSV 가져오기 중 오류가 발생했습니다: " + e.getCause(), "CSV 가져오기 오류", JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            };
+            worker.execute();
+            progressDialog.setVisible(true);
         }
     }
 
@@ -260,11 +325,34 @@ public class MainApp {
                     return;
                 }
             }
-            if (wordManager.exportWordsToCsv(fileToSave.getAbsolutePath())) {
-                JOptionPane.showMessageDialog(frame, "단어장이 성공적으로 내보내졌습니다.", "CSV 내보내기 성공", JOptionPane.INFORMATION_MESSAGE);
-            } else {
-                JOptionPane.showMessageDialog(frame, "단어장 내보내기에 실패했습니다.", "CSV 내보내기 오류", JOptionPane.ERROR_MESSAGE);
-            }
+            String exportPath = fileToSave.getAbsolutePath();
+            ProgressDialog progressDialog = new ProgressDialog(frame, "CSV 내보내기");
+            SwingWorker<Boolean, Void> worker = new SwingWorker<Boolean, Void>() {
+                @Override
+                protected Boolean doInBackground() {
+                    return wordManager.exportWordsToCsv(exportPath, progressDialog);
+                }
+
+                @Override
+                protected void done() {
+                    progressDialog.dispose();
+                    boolean success;
+                    try {
+                        success = get();
+                    } catch (InterruptedException | ExecutionException e) {
+                        success = false;
+                    }
+                    if (success) {
+                        JOptionPane.showMessageDialog(frame, "단어장이 성공적으로 내보내졌습니다.", "CSV 내보내기 성공", JOptionPane.INFORMATION_MESSAGE);
+                    } else if (progressDialog.isCancelled()) {
+                        JOptionPane.showMessageDialog(frame, "내보내기를 취소했습니다.", "CSV 내보내기", JOptionPane.INFORMATION_MESSAGE);
+                    } else {
+                        JOptionPane.showMessageDialog(frame, "단어장 내보내기에 실패했습니다.", "CSV 내보내기 오류", JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            };
+            worker.execute();
+            progressDialog.setVisible(true);
         }
     }
 
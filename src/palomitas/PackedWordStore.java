@@ -0,0 +1,391 @@
+package palomitas;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+// 수백만 단어용 저장 방식: 단어를 힙 밖(direct ByteBuffer)의 연속된 영역에 압축 레코드로 보관합니다.
+// 레코드 형식은 이진 스냅샷과 같습니다: [int 길이][UTF-8 바이트] x 3 (스페인어, 한국어, 예문)
+// 힙에는 단어마다 int 몇 개(레코드 위치, 키 해시, 해시 테이블 칸과 그 단어의 목록 위치)만 남고,
+// get()/find()가 돌려주는 PackedWord는 필드를 읽을 때마다 레코드에서 문자열을 꺼내는 가벼운 뷰입니다.
+// 부를 때마다 새 뷰이므로 같은 단어인지는 참조가 아니라 WordManager.toKey로 비교해야 합니다.
+// 레코드는 덧붙이기만 하므로 수정/삭제된 레코드는 빈 공간으로 남고, 절반 이상이 빈 공간이 되면 한 번에 압축합니다.
+public class PackedWordStore implements WordStore {
+    private static final int INITIAL_ARENA_BYTES = 1 << 20;
+    private static final int MAX_ARENA_BYTES = Integer.MAX_VALUE - 8;
+    private static final int MIN_GARBAGE_TO_COMPACT = 1 << 20;
+    private static final int EMPTY = -1;
+    private static final int DELETED = -2;
+
+    private ByteBuffer arena = ByteBuffer.allocateDirect(INITIAL_ARENA_BYTES);
+    private int arenaUsed;
+    private int garbageBytes; // 더 이상 쓰이지 않는 레코드가 차지한 바이트
+
+    // 목록 순서대로의 레코드 위치와 키 해시
+    private int[] offsets = new int[16];
+    private int[] hashes = new int[16];
+    private int size;
+
+    // 열린 주소법 해시 테이블: 칸마다 레코드 위치(없으면 EMPTY, 지워졌으면 DELETED), 키 해시, 목록 위치
+    // 목록 위치를 함께 두어 수정/삭제할 때 목록을 처음부터 훑지 않습니다. (positionOf 참고)
+    private int[] tableOffsets;
+    private int[] tableHashes;
+    private int[] tablePositions;
+    private int tableUsed; // DELETED 칸 포함
+
+    public PackedWordStore() {
+        allocateTable(16);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Word get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new PackedWord(arena, offsets[index]);
+    }
+
+    @Override
+    public Word find(String spanish) {
+        String key = WordManager.toKey(spanish);
+        int slot = findSlot(key, hash(key));
+        return slot < 0 ? null : new PackedWord(arena, tableOffsets[slot]);
+    }
+
+    @Override
+    public boolean add(Word word) {
+        String key = WordManager.toKey(word.getSpanish());
+        int h = hash(key);
+        if (findSlot(key, h) >= 0) {
+            return false;
+        }
+        ensureTableCapacity();
+        int offset = append(word);
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        offsets[size] = offset;
+        hashes[size] = h;
+        insertSlot(h, offset, size);
+        size++;
+        return true;
+    }
+
+    @Override
+    public int remove(String spanish) {
+        String key = WordManager.toKey(spanish);
+        int slot = findSlot(key, hash(key));
+        if (slot < 0) {
+            return -1;
+        }
+        int offset = tableOffsets[slot];
+        int position = positionOf(slot);
+        tableOffsets[slot] = DELETED;
+        System.arraycopy(offsets, position + 1, offsets, position, size - position - 1);
+        System.arraycopy(hashes, position + 1, hashes, position, size - position - 1);
+        size--;
+        garbageBytes += recordLength(arena, offset);
+        compactIfNeeded();
+        return position;
+    }
+
+    @Override
+    public int replace(String oldSpanish, Word newWord) {
+        ensureTableCapacity(); // 테이블을 다시 만들면 칸 위치가 바뀌므로 칸을 찾기 전에
+        String oldKey = WordManager.toKey(oldSpanish);
+        int slot = findSlot(oldKey, hash(oldKey));
+        if (slot < 0) {
+            return -1;
+        }
+        int oldOffset = tableOffsets[slot];
+        int position = positionOf(slot);
+        tableOffsets[slot] = DELETED;
+        int newOffset = append(newWord);
+        String newKey = WordManager.toKey(newWord.getSpanish());
+        int newHash = hash(newKey);
+        offsets[position] = newOffset;
+        hashes[position] = newHash;
+        insertSlot(newHash, newOffset, position);
+        garbageBytes += recordLength(arena, oldOffset);
+        compactIfNeeded();
+        return position;
+    }
+
+    @Override
+    public void clear() {
+        arena = ByteBuffer.allocateDirect(INITIAL_ARENA_BYTES);
+        arenaUsed = 0;
+        garbageBytes = 0;
+        offsets = new int[16];
+        hashes = new int[16];
+        size = 0;
+        allocateTable(16);
+    }
+
+    @Override
+    public List<Word> asList() {
+        return new View();
+    }
+
+    // 레코드는 덧붙이기만 하고 압축/확장 때는 새 버퍼를 만들므로, 지금의 버퍼와 레코드 위치만 복사해 두면
+    // 이후 변경과 상관없이 같은 내용을 읽을 수 있습니다. (단어당 int 하나)
+    @Override
+    public List<Word> snapshot() {
+        return new Snapshot(arena, Arrays.copyOf(offsets, size));
+    }
+
+    private static class Snapshot extends AbstractList<Word> implements RandomAccess {
+        private final ByteBuffer arena;
+        private final int[] offsets;
+
+        Snapshot(ByteBuffer arena, int[] offsets) {
+            this.arena = arena;
+            this.offsets = offsets;
+        }
+
+        @Override
+        public Word get(int index) {
+            return new PackedWord(arena, offsets[index]);
+        }
+
+        @Override
+        public int size() {
+            return offsets.length;
+        }
+    }
+
+    // 힙 밖에 쓰고 있는 바이트 수 (통계용)
+    public long getArenaBytes() {
+        return arenaUsed;
+    }
+
+    private class View extends AbstractList<Word> implements RandomAccess {
+        @Override
+        public Word get(int index) {
+            return PackedWordStore.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    // ---- 레코드 읽기/쓰기 ----
+
+    private int append(Word word) {
+        byte[] spanish = word.getSpanish().getBytes(StandardCharsets.UTF_8);
+        byte[] korean = word.getKorean().getBytes(StandardCharsets.UTF_8);
+        byte[] example = word.getExample().getBytes(StandardCharsets.UTF_8);
+        long length = 12L + spanish.length + korean.length + example.length;
+        ensureArenaCapacity(arenaUsed + length);
+
+        int offset = arenaUsed;
+        // 원본 버퍼의 position은 건드리지 않습니다. (뷰들이 같은 버퍼를 동시에 읽기 때문)
+        ByteBuffer writer = arena.duplicate();
+        writer.position(offset);
+        writer.putInt(spanish.length).put(spanish);
+        writer.putInt(korean.length).put(korean);
+        writer.putInt(example.length).put(example);
+        arenaUsed = writer.position();
+        return offset;
+    }
+
+    private void ensureArenaCapacity(long required) {
+        if (required <= arena.capacity()) {
+            return;
+        }
+        if (required > MAX_ARENA_BYTES) {
+            throw new IllegalStateException("압축 저장 공간이 가득 찼습니다. (최대 " + MAX_ARENA_BYTES + "바이트)");
+        }
+        long newCapacity = Math.max(required, Math.min((long) arena.capacity() * 2, MAX_ARENA_BYTES));
+        ByteBuffer bigger = ByteBuffer.allocateDirect((int) newCapacity);
+        ByteBuffer source = arena.duplicate();
+        source.position(0).limit(arenaUsed);
+        bigger.put(source);
+        bigger.clear();
+        arena = bigger; // 이미 만들어진 뷰는 이전 버퍼를 계속 참조하므로 그대로 유효합니다.
+    }
+
+    static String readField(ByteBuffer buffer, int offset, int fieldIndex) {
+        int position = offset;
+        for (int i = 0; i < fieldIndex; i++) {
+            position += 4 + buffer.getInt(position);
+        }
+        int length = buffer.getInt(position);
+        byte[] bytes = new byte[length];
+        ByteBuffer reader = buffer.duplicate();
+        reader.position(position + 4);
+        reader.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int recordLength(ByteBuffer buffer, int offset) {
+        int position = offset;
+        for (int i = 0; i < 3; i++) {
+            position += 4 + buffer.getInt(position);
+        }
+        return position - offset;
+    }
+
+    // 빈 공간이 절반을 넘으면 살아 있는 레코드만 목록 순서대로 새 버퍼에 옮깁니다.
+    private void compactIfNeeded() {
+        if (garbageBytes < MIN_GARBAGE_TO_COMPACT || garbageBytes < arenaUsed / 2) {
+            return;
+        }
+        int liveBytes = arenaUsed - garbageBytes;
+        ByteBuffer compacted = ByteBuffer.allocateDirect(Math.max(INITIAL_ARENA_BYTES, liveBytes + liveBytes / 4));
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int length = recordLength(arena, offsets[i]);
+            ByteBuffer source = arena.duplicate();
+            source.position(offsets[i]).limit(offsets[i] + length);
+            compacted.put(source);
+            offsets[i] = position;
+            position += length;
+        }
+        compacted.clear();
+        arena = compacted;
+        arenaUsed = position;
+        garbageBytes = 0;
+        rebuildTable(tableOffsets.length);
+    }
+
+    // ---- 해시 테이블 ----
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private boolean keyEquals(int offset, String key) {
+        return WordManager.toKey(readField(arena, offset, 0)).equals(key);
+    }
+
+    private int findSlot(String key, int h) {
+        int mask = tableOffsets.length - 1;
+        for (int i = h & mask; tableOffsets[i] != EMPTY; i = (i + 1) & mask) {
+            if (tableOffsets[i] >= 0 && tableHashes[i] == h && keyEquals(tableOffsets[i], key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 항목을 하나 더 넣기 전에 호출 (offsets/hashes를 바꾸기 전이어야 합니다)
+    private void ensureTableCapacity() {
+        if ((tableUsed + 1) * 2 > tableOffsets.length) {
+            // 살아 있는 항목 기준으로 크기를 정하므로, DELETED가 많으면 같은 크기로 정리만 합니다.
+            rebuildTable(Math.max(16, Integer.highestOneBit(size + 1) * 4));
+        }
+    }
+
+    private void insertSlot(int h, int offset, int position) {
+        int mask = tableOffsets.length - 1;
+        int i = h & mask;
+        while (tableOffsets[i] >= 0) {
+            i = (i + 1) & mask;
+        }
+        if (tableOffsets[i] == EMPTY) {
+            tableUsed++;
+        }
+        tableOffsets[i] = offset;
+        tableHashes[i] = h;
+        tablePositions[i] = position;
+    }
+
+    // 칸에 든 단어의 목록 위치. 삭제로 뒤쪽 단어들이 당겨져도 (삭제마다 모든 칸을 고치지 않도록) 칸의 값은 그대로 두므로,
+    // 적힌 위치가 맞지 않으면 거기서 앞으로 거슬러 찾고 고쳐 둡니다. 단어는 앞으로만 당겨지므로 그 사이에 있고,
+    // 거슬러 가는 거리는 그 뒤로 앞쪽에서 지운 단어 수 이하입니다. (압축하면 모두 다시 맞춰짐)
+    private int positionOf(int slot) {
+        int offset = tableOffsets[slot];
+        int position = Math.min(tablePositions[slot], size - 1);
+        while (offsets[position] != offset) {
+            position--;
+        }
+        tablePositions[slot] = position;
+        return position;
+    }
+
+    private void rebuildTable(int capacity) {
+        allocateTable(capacity);
+        for (int i = 0; i < size; i++) {
+            insertSlot(hashes[i], offsets[i], i);
+        }
+    }
+
+    private void allocateTable(int capacity) {
+        tableOffsets = new int[capacity];
+        tableHashes = new int[capacity];
+        tablePositions = new int[capacity];
+        Arrays.fill(tableOffsets, EMPTY);
+        tableUsed = 0;
+    }
+
+    // 압축 레코드를 가리키는 Word 뷰. 필드를 읽을 때마다 레코드에서 꺼내고,
+    // setter가 호출되면 그때 세 필드를 힙으로 옮겨 일반 Word처럼 동작합니다. (저장소에는 updateWord로 반영)
+    static class PackedWord extends Word {
+        private final ByteBuffer arena;
+        private final int offset;
+        private boolean materialized;
+
+        PackedWord(ByteBuffer arena, int offset) {
+            super(null, null, null);
+            this.arena = arena;
+            this.offset = offset;
+        }
+
+        @Override
+        public String getSpanish() {
+            return materialized ? super.getSpanish() : readField(arena, offset, 0);
+        }
+
+        @Override
+        public String getKorean() {
+            return materialized ? super.getKorean() : readField(arena, offset, 1);
+        }
+
+        @Override
+        public String getExample() {
+            return materialized ? super.getExample() : readField(arena, offset, 2);
+        }
+
+        @Override
+        public void setSpanish(String spanish) {
+            materialize();
+            super.setSpanish(spanish);
+        }
+
+        @Override
+        public void setKorean(String korean) {
+            materialize();
+            super.setKorean(korean);
+        }
+
+        @Override
+        public void setExample(String example) {
+            materialize();
+            super.setExample(example);
+        }
+
+        private void materialize() {
+            if (materialized) return;
+            String spanish = readField(arena, offset, 0);
+            String korean = readField(arena, offset, 1);
+            String example = readField(arena, offset, 2);
+            materialized = true;
+            super.setSpanish(spanish);
+            super.setKorean(korean);
+            super.setExample(example);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package palomitas;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 아주 큰 CSV 파일을 메모리 매핑한 뒤, 레코드 경계에서 여러 조각으로 나눠 fork-join 풀에서 동시에 파싱합니다.
+// 조각들은 같은 StringPool을 함께 써서 반복되는 뜻/예문을 합칩니다.
+// 결과는 파일 순서대로 조각별 단어 목록으로 돌려주므로, 합치는 쪽에서 순차 가져오기와 같은 중복 처리를 할 수 있습니다.
+public class ParallelCsvImporter {
+    private static final long SCAN_WINDOW_SIZE = 256L * 1024 * 1024; // 경계 탐색 시 한 번에 매핑하는 크기
+    private static final int SCAN_BLOCK_SIZE = 64 * 1024; // 매핑한 영역에서 한 번에 배열로 복사해 훑는 크기
+    private static final long MIN_CHUNK_SIZE = 1024L * 1024;
+    private static final long MAX_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private ParallelCsvImporter() {
+    }
+
+    // progress에는 끝난 조각의 바이트 비율로 진행률을 알리고, 취소되면 각 조각이 CancellationException으로 멈춥니다.
+    public static List<List<Word>> parse(Path csvFile, StringPool pool, TaskProgress progress) throws IOException {
+        ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            AtomicLong parsedBytes = new AtomicLong();
+            AtomicLong parsedRows = new AtomicLong();
+            // 코어마다 몇 조각씩 돌아가도록 나눠서, 조각 크기가 고르지 않아도 일이 한쪽에 몰리지 않게 합니다.
+            long target = size / (forkJoinPool.getParallelism() * 4L);
+            target = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, target));
+            List<long[]> chunks = findChunkBoundaries(channel, size, target);
+
+            List<Callable<List<Word>>> tasks = new ArrayList<>(chunks.size());
+            for (long[] chunk : chunks) {
+                tasks.add(() -> {
+                    List<Word> words = parseChunk(channel, chunk[0], chunk[1] - chunk[0], pool, progress);
+                    long bytes = parsedBytes.addAndGet(chunk[1] - chunk[0]);
+                    progress.update(parsedRows.addAndGet(words.size()), (int) (100 * bytes / Math.max(1, size)));
+                    return words;
+                });
+            }
+            List<List<Word>> results = new ArrayList<>(chunks.size());
+            for (Future<List<Word>> future : forkJoinPool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("CSV 가져오기가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof CancellationException) throw (CancellationException) cause;
+            throw new IOException(cause);
+        }
+    }
+
+    // 경계 탐색 중 CsvReader와 같은 규칙으로 추적하는 상태
+    private static final int FIELD_START = 0;   // 필드 맨 앞: 여기서 만난 큰따옴표만 따옴표 필드를 엽니다.
+    private static final int PLAIN_FIELD = 1;   // 따옴표 없는 필드: 중간의 큰따옴표는 보통 문자
+    private static final int QUOTED_FIELD = 2;  // 따옴표 필드 안: 쉼표/줄바꿈도 필드의 일부
+    private static final int QUOTE_IN_QUOTED = 3; // 따옴표 필드 안에서 큰따옴표를 만난 직후 ("" 이면 다시 안으로)
+    private static final int AFTER_QUOTED = 4;  // 닫는 따옴표 뒤 쉼표/줄 끝 전까지 (CsvReader는 버리는 문자들, 따옴표도 무시)
+
+    // 파일을 처음부터 한 번 훑으면서 CsvReader와 같은 규칙으로 지금 위치가 따옴표 필드 안인지 추적하고,
+    // 목표 크기를 넘긴 뒤 처음 만나는 "레코드를 끝내는 줄바꿈" 다음 위치를 조각 경계로 삼습니다.
+    // (필드 중간의 큰따옴표까지 세면 ab"c 같은 필드 하나로 파일 끝까지 안팎이 뒤집혀, 여러 줄 필드가 두 조각으로 잘릴 수 있음)
+    // UTF-8에서 '"', ',', '\n', '\r' 바이트는 여러 바이트 문자의 일부로 나타나지 않으므로 바이트 단위로 검사해도 안전합니다.
+    // 이 탐색은 한 스레드에서 하므로, 매핑한 버퍼를 한 바이트씩 get(i)하지 않고 SCAN_BLOCK_SIZE씩 배열로 한꺼번에 복사해 훑고,
+    // 필드 안에서는 상태를 바꾸는 바이트가 나올 때까지 건너뜁니다.
+    private static List<long[]> findChunkBoundaries(FileChannel channel, long size, long target) throws IOException {
+        List<long[]> chunks = new ArrayList<>();
+        long chunkStart = 0;
+        int state = FIELD_START;
+        byte[] block = new byte[SCAN_BLOCK_SIZE];
+        for (long windowStart = 0; windowStart < size; windowStart += SCAN_WINDOW_SIZE) {
+            long windowSize = Math.min(SCAN_WINDOW_SIZE, size - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+            for (int blockStart = 0; blockStart < windowSize; blockStart += SCAN_BLOCK_SIZE) {
+                int length = (int) Math.min(SCAN_BLOCK_SIZE, windowSize - blockStart);
+                window.get(block, 0, length);
+                int i = 0;
+                if (windowStart == 0 && blockStart == 0 && length >= 3
+                        && block[0] == (byte) 0xEF && block[1] == (byte) 0xBB && block[2] == (byte) 0xBF) {
+                    i = 3; // CsvReader처럼 맨 앞의 BOM은 건너뜀 (그 뒤의 큰따옴표가 첫 필드의 시작)
+                }
+                for (; i < length; i++) {
+                    byte b = block[i];
+                    if (state == QUOTE_IN_QUOTED) {
+                        if (b == '"') {
+                            state = QUOTED_FIELD; // 이중 큰따옴표
+                            continue;
+                        }
+                        state = AFTER_QUOTED; // 닫는 따옴표였음: 이 바이트는 닫는 따옴표 뒤의 문자로 처리
+                    }
+                    boolean endOfRecord = false;
+                    switch (state) {
+                        case QUOTED_FIELD:
+                            while (b != '"' && ++i < length) { // 닫는 따옴표 후보까지 건너뜀
+                                b = block[i];
+                            }
+                            if (b == '"') state = QUOTE_IN_QUOTED;
+                            break;
+                        case AFTER_QUOTED:
+                        case PLAIN_FIELD:
+                            while (b != ',' && b != '\n' && b != '\r' && ++i < length) { // 필드 끝까지 건너뜀
+                                b = block[i];
+                            }
+                            if (b == ',') {
+                                state = FIELD_START;
+                            } else if (b == '\n' || b == '\r') {
+                                state = FIELD_START;
+                                endOfRecord = true;
+                            }
+                            break;
+                        default: // FIELD_START
+                            if (b == '"') {
+                                state = QUOTED_FIELD;
+                            } else if (b == '\n' || b == '\r') {
+                                endOfRecord = true;
+                            } else if (b != ',') {
+                                state = PLAIN_FIELD;
+                            }
+                            break;
+                    }
+                    if (endOfRecord && b == '\n') {
+                        long next = windowStart + blockStart + i + 1;
+                        if (next - chunkStart >= target) {
+                            chunks.add(new long[]{chunkStart, next});
+                            chunkStart = next;
+                        }
+                    }
+                }
+            }
+        }
+        if (chunkStart < size) {
+            chunks.add(new long[]{chunkStart, size});
+        }
+        return chunks;
+    }
+
+    private static List<Word> parseChunk(FileChannel channel, long start, long length, StringPool pool,
+                                         TaskProgress progress) throws IOException {
+        if (progress.isCancelled()) {
+            throw new CancellationException();
+        }
+        MappedByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        CharBuffer chars = decode(bytes);
+        List<Word> words = new ArrayList<>();
+        List<String> fields = new ArrayList<>(3);
+        CsvReader reader = new CsvReader(chars.array(), chars.arrayOffset(), chars.remaining());
+        while (reader.readRecord(fields)) {
+            pool.internFields(fields);
+            Word word = Word.fromCsvFields(fields);
+            if (word != null) {
+                words.add(word);
+            }
+            if (words.size() % WordManager.PROGRESS_INTERVAL_ROWS == 0 && progress.isCancelled()) {
+                throw new CancellationException();
+            }
+        }
+        return words;
+    }
+
+    // 잘못된 UTF-8 바이트는 FileReader와 같이 대체 문자로 바꿉니다.
+    private static CharBuffer decode(ByteBuffer bytes) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        return decoder.decode(bytes);
+    }
+}
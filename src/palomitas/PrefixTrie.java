@@ -0,0 +1,203 @@
+package palomitas;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+// 자동 완성과 중복 확인용 접두사 트리 (간선에 여러 글자를 담는 압축 트리)
+// 단어는 소문자로 접어서 넣고, 완성 목록에는 처음 넣은 원래 표기를 돌려줍니다.
+// 같은 단어를 여러 번 넣으면 개수만 늘어나므로 (예: 같은 한국어 뜻을 가진 단어들) 모두 지워야 없어집니다.
+// 조회와 변경 모두 단어 길이에만 비례하고 단어장 크기와는 상관없습니다. 여러 스레드에서 써도 됩니다.
+public class PrefixTrie {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static class Node {
+        String label;         // 부모에서 이 노드로 오는 간선의 글자들
+        char[] keys = NO_KEYS; // 자식 간선의 첫 글자 (정렬됨)
+        Node[] children = NO_CHILDREN;
+        int count;            // 여기서 끝나는 단어가 들어간 횟수
+        String term;          // 여기서 끝나는 단어의 원래 표기
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        void putChild(Node node) {
+            char c = node.label.charAt(0);
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                children[i] = node;
+                return;
+            }
+            i = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            newKeys[i] = c;
+            newChildren[i] = node;
+            System.arraycopy(keys, i, newKeys, i + 1, keys.length - i);
+            System.arraycopy(children, i, newChildren, i + 1, children.length - i);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i < 0) return;
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, keys.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+    }
+
+    private final Node root = new Node("");
+    private int size; // 서로 다른 단어 수
+
+    public static String fold(String term) {
+        return term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized void add(String term) {
+        String key = fold(term);
+        if (key.isEmpty()) return;
+        Node node = root;
+        int pos = 0;
+        while (pos < key.length()) {
+            Node child = node.child(key.charAt(pos));
+            if (child == null) {
+                child = new Node(key.substring(pos));
+                node.putChild(child);
+                node = child;
+                break;
+            }
+            int common = commonPrefix(child.label, key, pos);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지므로 간선을 둘로 나눕니다.
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.putChild(child);
+                node.putChild(middle);
+                child = middle;
+            }
+            node = child;
+            pos += common;
+        }
+        if (node.count++ == 0) {
+            node.term = term.trim();
+            size++;
+        }
+    }
+
+    public synchronized void remove(String term) {
+        String key = fold(term);
+        if (!key.isEmpty()) {
+            remove(root, key, 0);
+        }
+    }
+
+    // 자식 쪽에서 지운 뒤 빈 노드는 떼어 내고, 갈라질 필요가 없어진 간선은 다시 합칩니다.
+    private void remove(Node node, String key, int pos) {
+        Node child = node.child(key.charAt(pos));
+        if (child == null || !key.startsWith(child.label, pos)) {
+            return; // 없는 단어
+        }
+        int next = pos + child.label.length();
+        if (next == key.length()) {
+            if (child.count == 0) return;
+            if (--child.count == 0) {
+                child.term = null;
+                size--;
+            }
+        } else {
+            remove(child, key, next);
+        }
+        if (child.count == 0) {
+            if (child.children.length == 0) {
+                node.removeChild(child.label.charAt(0));
+            } else if (child.children.length == 1) {
+                Node only = child.children[0];
+                only.label = child.label + only.label;
+                node.putChild(only);
+            }
+        }
+    }
+
+    public synchronized boolean contains(String term) {
+        return count(term) > 0;
+    }
+
+    // 같은 단어가 들어간 횟수
+    public synchronized int count(String term) {
+        String key = fold(term);
+        if (key.isEmpty()) return 0;
+        Node node = root;
+        int pos = 0;
+        while (pos < key.length()) {
+            Node child = node.child(key.charAt(pos));
+            if (child == null || !key.startsWith(child.label, pos)) {
+                return 0;
+            }
+            node = child;
+            pos += child.label.length();
+        }
+        return node.count;
+    }
+
+    // prefix로 시작하는 단어를 글자 순서대로 최대 limit개 (원래 표기)
+    public synchronized List<String> complete(String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        String key = fold(prefix);
+        if (key.isEmpty() || limit <= 0) return result;
+        Node node = root;
+        int pos = 0;
+        while (pos < key.length()) {
+            Node child = node.child(key.charAt(pos));
+            if (child == null) return result;
+            int common = commonPrefix(child.label, key, pos);
+            if (pos + common == key.length()) {
+                node = child; // 접두사가 이 간선 안에서 끝남
+                break;
+            }
+            if (common < child.label.length()) return result;
+            node = child;
+            pos += common;
+        }
+        collect(node, result, limit);
+        return result;
+    }
+
+    private static void collect(Node node, List<String> result, int limit) {
+        if (node.count > 0) {
+            result.add(node.term);
+        }
+        for (int i = 0; i < node.children.length && result.size() < limit; i++) {
+            collect(node.children[i], result, limit);
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int pos) {
+        int max = Math.min(label.length(), key.length() - pos);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(pos + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,78 @@
+package palomitas;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 가져오기/내보내기 진행 창: 진행률, 처리한 행 수와 초당 행 수를 보여주고 취소 버튼을 제공합니다.
+// 작업 스레드가 부르는 update()는 값만 기록하고, 화면은 EDT의 타이머가 주기적으로 읽어 갱신합니다.
+// (행마다 invokeLater를 부르면 큰 파일에서 EDT 큐가 넘치기 때문)
+public class ProgressDialog extends JDialog implements TaskProgress {
+    private static final long serialVersionUID = 1L;
+    private static final int REFRESH_MILLIS = 200;
+
+    private final JProgressBar progressBar = new JProgressBar(0, 100);
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JButton cancelButton = new JButton("취소");
+    private final Timer refreshTimer;
+
+    private final AtomicLong rows = new AtomicLong();
+    private volatile int percent;
+    private volatile boolean cancelled;
+    private final long startNanos = System.nanoTime();
+
+    public ProgressDialog(Frame owner, String title) {
+        super(owner, title, false); // 작업 중에도 단어장 창을 쓸 수 있도록 Modeless
+        setLayout(new BorderLayout(10, 10));
+        setSize(380, 140);
+        setLocationRelativeTo(owner);
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE); // 닫기는 작업이 끝났을 때만
+
+        JPanel centerPanel = new JPanel(new BorderLayout(5, 5));
+        centerPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 0, 10));
+        progressBar.setStringPainted(true);
+        centerPanel.add(progressBar, BorderLayout.NORTH);
+        centerPanel.add(statusLabel, BorderLayout.CENTER);
+        add(centerPanel, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        cancelButton.addActionListener(e -> {
+            cancelled = true;
+            cancelButton.setEnabled(false);
+            statusLabel.setText("취소하는 중...");
+        });
+        buttonPanel.add(cancelButton);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        refreshTimer = new Timer(REFRESH_MILLIS, e -> refresh());
+        refreshTimer.start();
+    }
+
+    @Override
+    public void update(long rowsDone, int percentDone) {
+        rows.accumulateAndGet(rowsDone, Math::max); // 병렬 파싱 중에는 순서가 뒤바뀌어 들어올 수 있음
+        percent = Math.max(percent, percentDone);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    private void refresh() {
+        progressBar.setValue(percent);
+        if (cancelled) {
+            return;
+        }
+        long rowsDone = rows.get();
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long rowsPerSecond = seconds > 0 ? (long) (rowsDone / seconds) : 0;
+        statusLabel.setText(String.format("%,d행 처리 (초당 %,d행)", rowsDone, rowsPerSecond));
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+        super.dispose();
+    }
+}
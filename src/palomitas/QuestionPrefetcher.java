@@ -0,0 +1,94 @@
+package palomitas;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// 퀴즈 창이 다음 문제로 넘어갈 때 EDT에서 보기를 만들지 않도록, 앞으로 낼 문제 몇 개를 백그라운드에서 미리 준비합니다.
+// (객관식 보기 뽑기, 비슷한 보기 색인 만들기, 문제 글 만들기)
+// 준비는 스레드 하나에서 문제 순서대로 하므로, seed가 같은 퀴즈는 미리 준비해도 같은 보기가 나옵니다.
+public class QuestionPrefetcher {
+    private static final int PREFETCH_DEPTH = 3; // 지금 문제 뒤로 미리 준비해 둘 문제 수
+
+    // 화면에 바로 올릴 수 있게 준비된 문제
+    public static class PreparedQuestion {
+        private final Word word;
+        private final String questionText;
+        private final List<String> choices; // 주관식이면 비어 있음
+
+        PreparedQuestion(Word word, String questionText, List<String> choices) {
+            this.word = word;
+            this.questionText = questionText;
+            this.choices = choices;
+        }
+
+        public Word getWord() { return word; }
+        public String getQuestionText() { return questionText; }
+        public List<String> getChoices() { return choices; }
+    }
+
+    private final Quiz quiz;
+    private final Function<Word, String> questionTextBuilder;
+    private final boolean multipleChoice;
+    private final ExecutorService executor;
+    private final List<CompletableFuture<PreparedQuestion>> prepared; // 문제 번호별 (EDT에서만 접근)
+
+    public QuestionPrefetcher(Quiz quiz, Function<Word, String> questionTextBuilder) {
+        this.quiz = quiz;
+        this.questionTextBuilder = questionTextBuilder;
+        this.multipleChoice = quiz.getQuizType() == Quiz.QuizType.SPANISH_TO_KOREAN_MULTIPLE_CHOICE
+                || quiz.getQuizType() == Quiz.QuizType.KOREAN_TO_SPANISH_MULTIPLE_CHOICE;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "palomitas-quiz-prefetch");
+            t.setDaemon(true);
+            return t;
+        });
+        this.prepared = new ArrayList<>(Collections.nCopies(quiz.getTotalQuestionsInQuiz(), null));
+        for (int i = 0; i < Math.min(PREFETCH_DEPTH, prepared.size()); i++) {
+            prefetch(i);
+        }
+    }
+
+    // index번 문제가 준비되면 EDT에서 onReady를 부릅니다. 이미 준비되어 있으면 (보통은 그렇습니다) 바로 부릅니다.
+    // 동시에 그 뒤의 문제들도 준비를 시작합니다.
+    public void take(int index, Consumer<PreparedQuestion> onReady) {
+        CompletableFuture<PreparedQuestion> future = prefetch(index);
+        for (int i = index + 1; i <= index + PREFETCH_DEPTH && i < prepared.size(); i++) {
+            prefetch(i);
+        }
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            onReady.accept(future.join());
+        } else if (future.isDone()) {
+            onReady.accept(prepare(index)); // 백그라운드 준비가 실패했으면 여기서 다시 (오류는 호출한 쪽으로)
+        } else {
+            future.whenComplete((question, error) ->
+                    SwingUtilities.invokeLater(() -> onReady.accept(question != null ? question : prepare(index))));
+        }
+    }
+
+    // 창을 닫을 때 호출: 아직 시작하지 않은 준비는 버립니다.
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<PreparedQuestion> prefetch(int index) {
+        CompletableFuture<PreparedQuestion> future = prepared.get(index);
+        if (future == null) {
+            future = CompletableFuture.supplyAsync(() -> prepare(index), executor);
+            prepared.set(index, future);
+        }
+        return future;
+    }
+
+    private PreparedQuestion prepare(int index) {
+        Word word = quiz.getQuestionAt(index);
+        List<String> choices = multipleChoice ? quiz.generateMultipleChoices(word) : Collections.emptyList();
+        return new PreparedQuestion(word, questionTextBuilder.apply(word), choices);
+    }
+}
@@ -2,7 +2,10 @@ package palomitas;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -22,11 +25,28 @@ public class Quiz {
     private int currentQuestionIndex;
     private int score;
     private int passedCount;
+    private int nearMissCount; // 오타로 인정한 개수 (score에 포함)
+    private AnswerMatcher answerMatcher = AnswerMatcher.EXACT; // 주관식 채점 방식
+    private DistractorIndex.Difficulty distractorDifficulty = DistractorIndex.Difficulty.EASY; // 객관식 보기 난이도
+    private ReviewScheduler reviewScheduler; // 있으면 답할 때마다 복습 일정에 기록
+    private ReviewLog reviewLog; // 있으면 답할 때마다 복습 기록에 추가
+    private long questionStartNanos; // 지금 문제를 낸 시각 (응답 시간 계산용)
+    private final LatencyStats latencyStats = new LatencyStats(); // 이 퀴즈의 응답 시간
 
     private static final int MCQ_CHOICES_COUNT = 4;
+    // 문제 선택과 보기 뽑기가 모두 이 난수를 쓰므로, 같은 단어장 스냅샷에 같은 seed를 주면 같은 퀴즈가 다시 나옵니다.
+    private final long seed;
+    private final Random random;
 
     public Quiz(List<Word> allWordsFromManager, QuizType quizType, int requestedNumQuestions) {
-        this.allWords = new ArrayList<>(allWordsFromManager);
+        this(allWordsFromManager, quizType, requestedNumQuestions, new Random().nextLong());
+    }
+
+    // 재현용: 같은 seed와 같은 단어 목록이면 문제 순서와 객관식 보기가 똑같습니다. (벤치마크/회귀 확인용)
+    public Quiz(List<Word> allWordsFromManager, QuizType quizType, int requestedNumQuestions, long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.allWords = allWordsFromManager; // 단어장 스냅샷은 바뀌지 않으므로 복사하지 않고 그대로 씁니다.
         this.quizType = quizType;
         this.numberOfQuestions = Math.min(requestedNumQuestions, this.allWords.size());
         this.quizWords = new ArrayList<>();
@@ -37,13 +57,29 @@ public class Quiz {
         setupQuizWords();
     }
 
+    // 문제를 정해서 시작하는 퀴즈 (예: 오늘 복습할 단어). 보기는 allWordsFromManager 전체에서 뽑습니다.
+    public Quiz(List<Word> allWordsFromManager, QuizType quizType, List<Word> questionWords) {
+        this(allWordsFromManager, quizType, 0);
+        this.quizWords.addAll(questionWords);
+        this.numberOfQuestions = questionWords.size();
+    }
+
+    // 요청한 문제 수만큼만 뽑습니다. (앞에서부터 k칸만 섞는 Fisher-Yates)
+    // 섞을 배열을 만들지 않고 자리를 바꾼 칸만 맵에 기억하므로, 단어장 크기와 상관없이 k에 비례하는 시간과 메모리만 씁니다.
     private void setupQuizWords() {
         if (allWords.isEmpty() || numberOfQuestions == 0) {
             return;
         }
-        Collections.shuffle(allWords);
+        int n = allWords.size();
+        Map<Integer, Integer> swapped = new HashMap<>(numberOfQuestions * 2); // 칸 -> 그 칸으로 옮겨 온 원래 위치
         for (int i = 0; i < numberOfQuestions; i++) {
-            quizWords.add(allWords.get(i));
+            int j = i + random.nextInt(n - i);
+            Integer atJ = swapped.get(j);
+            Integer atI = swapped.remove(i); // i칸은 다시 볼 일이 없음
+            quizWords.add(allWords.get(atJ != null ? atJ : j));
+            if (j != i) {
+                swapped.put(j, atI != null ? atI : i);
+            }
         }
     }
 
@@ -54,11 +90,21 @@ public class Quiz {
     public Word nextQuestion() {
         if (hasNextQuestion()) {
             currentQuestionIndex++;
+            questionStartNanos = System.nanoTime();
             return quizWords.get(currentQuestionIndex);
         }
         return null;
     }
 
+    public int getCurrentQuestionIndex() {
+        return currentQuestionIndex;
+    }
+
+    // 아직 내지 않은 문제도 미리 볼 수 있습니다. (다음 문제를 미리 준비할 때)
+    public Word getQuestionAt(int index) {
+        return quizWords.get(index);
+    }
+
     public Word getCurrentQuestion() {
         if (currentQuestionIndex >= 0 && currentQuestionIndex < quizWords.size()) {
             return quizWords.get(currentQuestionIndex);
@@ -66,12 +112,57 @@ public class Quiz {
         return null;
     }
     
+    public void setAnswerMatcher(AnswerMatcher answerMatcher) {
+        this.answerMatcher = answerMatcher;
+    }
+
+    public AnswerMatcher getAnswerMatcher() {
+        return answerMatcher;
+    }
+
+    public void setReviewScheduler(ReviewScheduler reviewScheduler) {
+        this.reviewScheduler = reviewScheduler;
+    }
+
+    public void setReviewLog(ReviewLog reviewLog) {
+        this.reviewLog = reviewLog;
+    }
+
+    // 채점 결과를 복습 일정과 복습 기록에 남기고, 응답 시간을 잽니다.
+    // 시간 초과는 사용자가 답한 시간이 아니므로 응답 시간 통계에는 넣지 않습니다.
+    private void recordReview(Word word, int quality, ReviewLog.Outcome outcome) {
+        long now = System.currentTimeMillis();
+        long responseMillis = (System.nanoTime() - questionStartNanos) / 1_000_000;
+        if (outcome != ReviewLog.Outcome.TIMEOUT) {
+            latencyStats.record(word, quizType, responseMillis);
+            LatencyStats.getSession().record(word, quizType, responseMillis);
+        }
+        if (reviewScheduler != null) {
+            reviewScheduler.record(word, quality, now);
+        }
+        if (reviewLog != null) {
+            reviewLog.append(word, quizType, outcome, (int) Math.min(responseMillis, Integer.MAX_VALUE), now);
+        }
+    }
+
+    public LatencyStats getLatencyStats() {
+        return latencyStats;
+    }
+
+    public void setDistractorDifficulty(DistractorIndex.Difficulty distractorDifficulty) {
+        this.distractorDifficulty = distractorDifficulty;
+    }
+
+    public DistractorIndex.Difficulty getDistractorDifficulty() {
+        return distractorDifficulty;
+    }
+
     // <<<--- 오답 기록을 위해 checkAnswer 메소드들 수정
-    public boolean checkAnswer(String userAnswer) {
+    // 아까운 오답(NEAR_MISS)은 정답으로 세고 nearMissCount에 따로 기록합니다.
+    public AnswerMatcher.Result checkAnswer(String userAnswer) {
         Word currentWord = getCurrentQuestion();
-        if (currentWord == null || userAnswer == null) return false;
+        if (currentWord == null || userAnswer == null) return AnswerMatcher.Result.WRONG;
 
-        boolean isCorrect;
         String correctAnswer = "";
 
         switch (quizType) {
@@ -82,15 +173,21 @@ public class Quiz {
                 correctAnswer = currentWord.getSpanish();
                 break;
             default:
-                return false;
+                return AnswerMatcher.Result.WRONG;
         }
-        isCorrect = correctAnswer.equalsIgnoreCase(userAnswer.trim());
-        if (isCorrect) {
+        AnswerMatcher.Result result = answerMatcher.match(userAnswer, correctAnswer);
+        if (result == AnswerMatcher.Result.WRONG) {
+            wrongAnswers.add(currentWord); // 틀렸을 때 리스트에 추가
+            recordReview(currentWord, ReviewScheduler.QUALITY_WRONG, ReviewLog.Outcome.WRONG);
+        } else if (result == AnswerMatcher.Result.NEAR_MISS) {
             score++;
+            nearMissCount++;
+            recordReview(currentWord, ReviewScheduler.QUALITY_NEAR_MISS, ReviewLog.Outcome.NEAR_MISS);
         } else {
-            wrongAnswers.add(currentWord); // 틀렸을 때 리스트에 추가
+            score++;
+            recordReview(currentWord, ReviewScheduler.QUALITY_PERFECT, ReviewLog.Outcome.CORRECT);
         }
-        return isCorrect;
+        return result;
     }
 
     public boolean checkAnswerMcq(String selectedChoiceText) {
@@ -115,12 +212,29 @@ public class Quiz {
         } else {
             wrongAnswers.add(currentWord); // 틀렸을 때 리스트에 추가
         }
+        if (isCorrect) {
+            recordReview(currentWord, ReviewScheduler.QUALITY_RECOGNIZED, ReviewLog.Outcome.CORRECT);
+        } else {
+            recordReview(currentWord, ReviewScheduler.QUALITY_WRONG, ReviewLog.Outcome.WRONG);
+        }
         return isCorrect;
     }
 
 
     public void passQuestion() {
+        skipQuestion(ReviewLog.Outcome.PASS);
+    }
+
+    // 시간 초과: 통계에서는 패스와 같게 세고, 기록에만 구분해서 남깁니다.
+    public void timeOutQuestion() {
+        skipQuestion(ReviewLog.Outcome.TIMEOUT);
+    }
+
+    private void skipQuestion(ReviewLog.Outcome outcome) {
         passedCount++;
+        if (getCurrentQuestion() != null) {
+            recordReview(getCurrentQuestion(), ReviewScheduler.QUALITY_BLACKOUT, outcome); // 모르는 단어이므로 곧 다시 복습
+        }
         // '패스'한 문제도 오답으로 간주하여 기록하고 싶다면 아래 주석을 해제
         // if (getCurrentQuestion() != null) {
         //     wrongAnswers.add(getCurrentQuestion());
@@ -130,11 +244,18 @@ public class Quiz {
     public int getScore() { return score; }
     public int getTotalQuestionsInQuiz() { return quizWords.size(); }
     public int getPassedCount() { return passedCount; }
+    public int getNearMissCount() { return nearMissCount; }
     public QuizType getQuizType() { return quizType; }
+    public long getSeed() { return seed; }
     public List<Word> getWrongAnswers() { return wrongAnswers; } // <<<--- 오답 리스트를 반환하는 getter 추가
 
     public List<String> generateMultipleChoices() {
-        Word correctAnswerWord = getCurrentQuestion();
+        return generateMultipleChoices(getCurrentQuestion());
+    }
+
+    // 주어진 문제의 보기. 퀴즈 상태를 바꾸지 않으므로 다음 문제의 보기를 백그라운드에서 미리 만들 수 있습니다.
+    // (같은 seed로 같은 퀴즈를 재현하려면 문제 순서대로 한 스레드에서 불러야 합니다)
+    public List<String> generateMultipleChoices(Word correctAnswerWord) {
         if (correctAnswerWord == null) return new ArrayList<>();
 
         List<String> choices = new ArrayList<>();
@@ -149,26 +270,42 @@ public class Quiz {
         }
         choices.add(correctChoiceText);
 
-        List<Word> otherWords = new ArrayList<>(this.allWords);
-        otherWords.remove(correctAnswerWord);
-        Collections.shuffle(otherWords);
-
-        for (Word otherWord : otherWords) {
-            if (choices.size() >= MCQ_CHOICES_COUNT) break;
+        boolean spanishChoices = quizType == QuizType.KOREAN_TO_SPANISH_MULTIPLE_CHOICE;
+        // 압축 저장 모드에서는 같은 단어도 꺼낼 때마다 다른 객체이므로 참조가 아닌 키로 정답을 가려냅니다.
+        String correctKey = WordManager.toKey(correctAnswerWord.getSpanish());
 
-            String wrongChoiceText = "";
-            if (quizType == QuizType.SPANISH_TO_KOREAN_MULTIPLE_CHOICE) {
-                wrongChoiceText = otherWord.getKorean();
-            } else if (quizType == QuizType.KOREAN_TO_SPANISH_MULTIPLE_CHOICE) {
-                wrongChoiceText = otherWord.getSpanish();
+        // 난이도가 있으면 정답과 비슷한 단어(앞/뒤 글자, 길이)부터 보기로 씁니다.
+        if (distractorDifficulty != DistractorIndex.Difficulty.EASY) {
+            DistractorIndex index = DistractorIndex.forWords(allWords, spanishChoices);
+            for (Word similarWord : index.candidates(correctChoiceText, distractorDifficulty, MCQ_CHOICES_COUNT * 2, random)) {
+                if (choices.size() >= MCQ_CHOICES_COUNT) break;
+                if (!correctKey.equals(WordManager.toKey(similarWord.getSpanish()))) {
+                    addChoice(choices, correctChoiceText, spanishChoices ? similarWord.getSpanish() : similarWord.getKorean());
+                }
             }
+        }
 
-            if (!wrongChoiceText.equalsIgnoreCase(correctChoiceText) && !choices.contains(wrongChoiceText) && !wrongChoiceText.trim().isEmpty()) {
-                choices.add(wrongChoiceText);
-            }
+        // 단어장 전체를 복사해 섞지 않고, 임의의 위치를 뽑아 보며 이미 본 위치는 건너뜁니다.
+        // 보기 수만큼만 뽑으면 되므로 단어장 크기와 상관없이 문제마다 몇 번의 뽑기로 끝납니다.
+        // (뜻이 같은 단어가 아주 많은 작은 단어장에서는 모든 위치를 다 볼 때까지 뽑고 멈춥니다)
+        int deckSize = allWords.size();
+        HashSet<Integer> triedIndices = new HashSet<>();
+        while (choices.size() < MCQ_CHOICES_COUNT && triedIndices.size() < deckSize) {
+            int index = random.nextInt(deckSize);
+            if (!triedIndices.add(index)) continue; // 이미 본 위치
+            Word otherWord = allWords.get(index);
+            if (correctKey.equals(WordManager.toKey(otherWord.getSpanish()))) continue;
+            addChoice(choices, correctChoiceText, spanishChoices ? otherWord.getSpanish() : otherWord.getKorean());
         }
-        
-        Collections.shuffle(choices);
+
+        Collections.shuffle(choices, random);
         return choices;
     }
+
+    // 정답과 같거나, 이미 있거나, 비어 있는 보기는 넣지 않습니다.
+    private static void addChoice(List<String> choices, String correctChoiceText, String wrongChoiceText) {
+        if (!wrongChoiceText.equalsIgnoreCase(correctChoiceText) && !choices.contains(wrongChoiceText) && !wrongChoiceText.trim().isEmpty()) {
+            choices.add(wrongChoiceText);
+        }
+    }
 }
\ No newline at end of file
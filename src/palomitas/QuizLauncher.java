@@ -0,0 +1,86 @@
+package palomitas;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+
+// 퀴즈 설정 창을 띄우고, 고른 설정대로 퀴즈를 만들어 퀴즈 창을 엽니다.
+// 시작 화면(WelcomeWindow)과 단어장 창(MainApp)이 같은 방식으로 퀴즈를 시작하도록 한곳에 모았습니다.
+public class QuizLauncher {
+    private QuizLauncher() {
+    }
+
+    public static void open(Frame owner, WordManager wordManager) {
+        List<Word> allWords = wordManager.getAllWords();
+        if (allWords.isEmpty()) {
+            JOptionPane.showMessageDialog(owner,
+                    "퀴즈를 시작하려면 단어장에 단어가 하나 이상 있어야 합니다.",
+                    "퀴즈 불가",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        ReviewScheduler reviewScheduler = wordManager.getReviewScheduler();
+        QuizSetupDialog setupDialog = new QuizSetupDialog(owner, allWords, reviewScheduler);
+        setupDialog.setVisible(true);
+        if (!setupDialog.didUserStartQuiz() || setupDialog.getSelectedQuestionCount() <= 0) {
+            return;
+        }
+
+        Quiz quiz = createQuiz(allWords, setupDialog, wordManager);
+        if (quiz.getTotalQuestionsInQuiz() > 0) {
+            QuizWindow quizWindow = new QuizWindow(owner, quiz);
+            quizWindow.setVisible(true);
+        } else {
+            JOptionPane.showMessageDialog(owner,
+                    "퀴즈에 출제할 문제가 없습니다. 단어 수나 문제 설정을 확인해주세요.",
+                    "퀴즈 오류",
+                    JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    // 설정 창에서 고른 유형, 문제 수, 복습 모드, 채점 방식, 보기 난이도로 퀴즈를 만들고 복습 일정/기록을 연결합니다.
+    static Quiz createQuiz(List<Word> allWords, QuizSetupDialog setupDialog, WordManager wordManager) {
+        Quiz.QuizType type = setupDialog.getSelectedQuizType();
+        int count = setupDialog.getSelectedQuestionCount();
+        ReviewScheduler reviewScheduler = wordManager.getReviewScheduler();
+
+        Quiz quiz;
+        if (setupDialog.isDueOnlySelected()) {
+            // 오늘 복습할 단어를 복습 시각 순서대로 (모자라면 새 단어로 채움)
+            quiz = new Quiz(allWords, type, reviewScheduler.dueWords(count, System.currentTimeMillis()));
+        } else {
+            quiz = new Quiz(allWords, type, count);
+        }
+        quiz.setReviewScheduler(reviewScheduler);
+        attachReviewLog(quiz, wordManager);
+        quiz.setAnswerMatcher(setupDialog.getSelectedAnswerMatcher());
+        quiz.setDistractorDifficulty(setupDialog.getSelectedDifficulty());
+        return quiz;
+    }
+
+    // 복습 기록은 단어장을 열 때 백그라운드에서 미리 엽니다. 아직 여는 중이면 퀴즈 창은 먼저 띄우고 다 열리면 붙입니다.
+    // (큰 기록 파일을 훑는 동안 EDT가 멈추지 않도록. 그 사이에 채점한 답은 기록되지 않습니다)
+    private static void attachReviewLog(Quiz quiz, WordManager wordManager) {
+        ReviewLog log = wordManager.getReviewLogIfOpen();
+        if (log != null) {
+            quiz.setReviewLog(log);
+            return;
+        }
+        new SwingWorker<ReviewLog, Void>() {
+            @Override
+            protected ReviewLog doInBackground() {
+                return wordManager.getReviewLog();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    quiz.setReviewLog(get());
+                } catch (Exception e) {
+                    System.err.println("복습 기록 준비 중 오류 발생: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+}
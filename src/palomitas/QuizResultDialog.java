@@ -6,16 +6,18 @@ import java.awt.*;
 import java.util.List;
 
 public class QuizResultDialog extends JDialog {
+    private static final int SLOWEST_WORDS_COUNT = 5;
 
-    public QuizResultDialog(Frame owner, int score, int totalQuestions, int passedCount, List<Word> wrongAnswers) {
+    public QuizResultDialog(Frame owner, int score, int totalQuestions, int passedCount, int nearMissCount, List<Word> wrongAnswers,
+                            Quiz.QuizType quizType, LatencyStats latencyStats) {
         super(owner, "퀴즈 결과", true); // Modal 다이얼로그
-        setSize(500, 400);
+        setSize(500, 520); // 응답 시간 표만큼 늘림
         setLocationRelativeTo(owner);
         setLayout(new BorderLayout(10, 10));
 
         // 1. 상단: 결과 요약 패널
         JPanel topPanel = new JPanel();
-        topPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 15, 5));
+        topPanel.setLayout(new GridLayout(0, 1, 0, 5)); // 결과 요약, 응답 시간 두 줄
         topPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 0, 10));
 
         int attempted = totalQuestions - passedCount;
@@ -26,7 +28,22 @@ public class QuizResultDialog extends JDialog {
             "총 문제: %d | 맞춘 개수: %d | 패스: %d | 정답률(패스 제외): %.1f%%",
             totalQuestions, score, passedCount, accuracy
         );
-        topPanel.add(new JLabel(summaryText));
+        if (nearMissCount > 0) {
+            summaryText += String.format(" | 오타 인정: %d", nearMissCount);
+        }
+        topPanel.add(new JLabel(summaryText, SwingConstants.CENTER));
+
+        // 응답 시간: 이번 퀴즈와, 지금까지 같은 유형 퀴즈 전체의 백분위
+        LatencyHistogram quizLatency = latencyStats.forQuizType(quizType);
+        if (quizLatency.getCount() > 0) {
+            LatencyHistogram sessionLatency = LatencyStats.getSession().forQuizType(quizType);
+            String latencyText = String.format(
+                "응답 시간: 중앙값 %s | 90%% %s | 최대 %s (오늘 같은 유형 중앙값 %s)",
+                formatMillis(quizLatency.percentile(50)), formatMillis(quizLatency.percentile(90)),
+                formatMillis(quizLatency.getMaxMillis()), formatMillis(sessionLatency.percentile(50))
+            );
+            topPanel.add(new JLabel(latencyText, SwingConstants.CENTER));
+        }
         add(topPanel, BorderLayout.NORTH);
 
         // 2. 중앙: 오답 목록 테이블
@@ -46,7 +63,28 @@ public class QuizResultDialog extends JDialog {
         wrongWordsTable.setFont(new Font("SansSerif", Font.PLAIN, 14));
         JScrollPane scrollPane = new JScrollPane(wrongWordsTable);
         scrollPane.setBorder(BorderFactory.createTitledBorder("오답 노트")); // 제목 추가
-        add(scrollPane, BorderLayout.CENTER);
+
+        // 답하는 데 오래 걸린 단어 (맞혔더라도 더 연습할 단어)
+        String[] slowColumnNames = {"오래 걸린 단어 (스페인어)", "한국어 뜻", "응답 시간"};
+        DefaultTableModel slowTableModel = new DefaultTableModel(slowColumnNames, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        for (Word word : latencyStats.slowestWords(SLOWEST_WORDS_COUNT)) {
+            slowTableModel.addRow(new Object[]{word.getSpanish(), word.getKorean(),
+                formatMillis(latencyStats.forWord(word).percentile(50))});
+        }
+        JTable slowWordsTable = new JTable(slowTableModel);
+        slowWordsTable.setFont(new Font("SansSerif", Font.PLAIN, 14));
+        JScrollPane slowScrollPane = new JScrollPane(slowWordsTable);
+        slowScrollPane.setBorder(BorderFactory.createTitledBorder("느린 단어"));
+
+        JPanel centerPanel = new JPanel(new GridLayout(2, 1, 0, 10));
+        centerPanel.add(scrollPane);
+        centerPanel.add(slowScrollPane);
+        add(centerPanel, BorderLayout.CENTER);
 
         // 3. 하단: 닫기 버튼
         JPanel bottomPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
@@ -56,4 +94,8 @@ public class QuizResultDialog extends JDialog {
         bottomPanel.add(closeButton);
         add(bottomPanel, BorderLayout.SOUTH);
     }
+
+    private static String formatMillis(long millis) {
+        return String.format("%.1f초", millis / 1000.0);
+    }
 }
\ No newline at end of file
@@ -9,25 +9,39 @@ import java.util.List; // List import 확인
 public class QuizSetupDialog extends JDialog {
     private JComboBox<String> quizTypeComboBox;
     private JSpinner questionCountSpinner;
+    private JComboBox<String> typoComboBox; // 주관식 채점: 허용할 오타 수
+    private JCheckBox ignoreAccentsCheckBox; // 주관식 채점: 악센트 무시
+    private JComboBox<String> difficultyComboBox; // 객관식 보기 난이도
+    private JCheckBox dueOnlyCheckBox; // 오늘 복습할 단어만 출제
     private JButton startButton;
     private JButton cancelButton;
 
     private Quiz.QuizType selectedQuizType; // 사용자가 선택한 퀴즈 유형
     private int selectedQuestionCount;    // 사용자가 선택한 문제 수
+    private AnswerMatcher selectedAnswerMatcher = AnswerMatcher.EXACT; // 사용자가 선택한 채점 방식
+    private DistractorIndex.Difficulty selectedDifficulty = DistractorIndex.Difficulty.EASY; // 사용자가 선택한 보기 난이도
     private boolean quizStarted = false; // 사용자가 "퀴즈 시작"을 눌렀는지 여부
 
+    private boolean dueOnlySelected; // 사용자가 "오늘 복습할 단어만"을 골랐는지 여부
+
     private List<Word> allWordsForQuiz; // 퀴즈 생성을 위해 전달받은 전체 단어 목록
+    private ReviewScheduler reviewScheduler; // null이면 복습 모드를 보여주지 않음
 
     public QuizSetupDialog(Frame owner, List<Word> allWords) {
+        this(owner, allWords, null);
+    }
+
+    public QuizSetupDialog(Frame owner, List<Word> allWords, ReviewScheduler reviewScheduler) {
         super(owner, "퀴즈 설정", true); // Modal 다이얼로그
         this.allWordsForQuiz = allWords;
+        this.reviewScheduler = reviewScheduler;
         this.selectedQuestionCount = 0; // 초기화
         initUI();
     }
 
     private void initUI() {
         setLayout(new BorderLayout(10, 10));
-        setSize(380, 220); // 크기 약간 조정
+        setSize(380, 340); // 채점 방식(오타, 악센트), 보기 난이도, 복습 모드 줄만큼 늘림
         setLocationRelativeTo(getOwner());
         setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE); // X 버튼으로 닫힐 때 리소스 해제
 
@@ -77,11 +91,58 @@ public class QuizSetupDialog extends JDialog {
         gbc.anchor = GridBagConstraints.WEST;
         panel.add(questionCountSpinner, gbc);
         
+        // 주관식 채점 방식 (객관식은 보기를 고르므로 항상 정확히 비교). 오타 허용과 악센트 무시는 따로 고릅니다.
+        gbc.gridx = 0;
+        gbc.gridy = 2;
+        gbc.anchor = GridBagConstraints.EAST;
+        panel.add(new JLabel("오타 허용:"), gbc);
+
+        String[] typoModes = {"허용 안 함", "1개까지 (아까운 오답으로 표시)", "2개까지 (아까운 오답으로 표시)"};
+        typoComboBox = new JComboBox<>(typoModes);
+        gbc.gridx = 1;
+        gbc.gridy = 2;
+        gbc.anchor = GridBagConstraints.WEST;
+        panel.add(typoComboBox, gbc);
+
+        ignoreAccentsCheckBox = new JCheckBox("악센트 무시 (á = a, ñ = n)");
+        gbc.gridx = 1;
+        gbc.gridy = 3;
+        gbc.anchor = GridBagConstraints.WEST;
+        panel.add(ignoreAccentsCheckBox, gbc);
+
+        // 객관식 보기 난이도 (어려울수록 정답과 글자나 길이가 비슷한 보기)
+        gbc.gridx = 0;
+        gbc.gridy = 4;
+        gbc.anchor = GridBagConstraints.EAST;
+        panel.add(new JLabel("보기 난이도:"), gbc);
+
+        String[] difficulties = {"쉬움 (무작위)", "보통 (길이가 비슷한 단어)", "어려움 (철자가 비슷한 단어)"};
+        difficultyComboBox = new JComboBox<>(difficulties);
+        gbc.gridx = 1;
+        gbc.gridy = 4;
+        gbc.anchor = GridBagConstraints.WEST;
+        panel.add(difficultyComboBox, gbc);
+
+        // 간격 반복 복습: 오늘 복습할 때가 된 단어부터, 모자라면 새 단어로 채움
+        dueOnlyCheckBox = new JCheckBox("오늘 복습할 단어만");
+        if (reviewScheduler != null) {
+            long now = System.currentTimeMillis();
+            dueOnlyCheckBox.setText(String.format("오늘 복습할 단어만 (복습 %d개, 새 단어 %d개)",
+                    reviewScheduler.countDue(now), reviewScheduler.countNew()));
+            gbc.gridx = 1;
+            gbc.gridy = 5;
+            gbc.anchor = GridBagConstraints.WEST;
+            panel.add(dueOnlyCheckBox, gbc);
+        }
+
+        quizTypeComboBox.addActionListener(e -> updateOptionsEnabled());
+        updateOptionsEnabled();
+
         // 최대 문제 개수 안내 레이블 (부가 정보)
         JLabel infoLabel = new JLabel("(단어장에 총 " + allWordsForQuiz.size() + "개 단어)");
         infoLabel.setFont(infoLabel.getFont().deriveFont(Font.ITALIC, 10f));
         gbc.gridx = 1;
-        gbc.gridy = 2;
+        gbc.gridy = 6;
         gbc.anchor = GridBagConstraints.NORTHWEST; // 왼쪽 위에 붙도록
         gbc.gridwidth = GridBagConstraints.REMAINDER; // 남은 공간 모두 사용
         panel.add(infoLabel, gbc);
@@ -109,11 +170,24 @@ public class QuizSetupDialog extends JDialog {
             startButton.setEnabled(false);
             quizTypeComboBox.setEnabled(false);
             questionCountSpinner.setEnabled(false);
+            typoComboBox.setEnabled(false);
+            ignoreAccentsCheckBox.setEnabled(false);
+            difficultyComboBox.setEnabled(false);
+            dueOnlyCheckBox.setEnabled(false);
             // 사용자에게 알림 (생성자에서 호출하거나, setVisible 전에 호출)
             // JOptionPane.showMessageDialog(this, "단어장에 단어가 없습니다. 먼저 단어를 추가해주세요.", "알림", JOptionPane.INFORMATION_MESSAGE);
         }
     }
 
+    // 채점 방식은 주관식 유형(0, 2번)에서, 보기 난이도는 객관식 유형(1, 3번)에서만 고를 수 있습니다.
+    private void updateOptionsEnabled() {
+        int typeIndex = quizTypeComboBox.getSelectedIndex();
+        boolean shortAnswer = typeIndex == 0 || typeIndex == 2;
+        typoComboBox.setEnabled(shortAnswer);
+        ignoreAccentsCheckBox.setEnabled(shortAnswer);
+        difficultyComboBox.setEnabled(!shortAnswer);
+    }
+
     private void handleStartQuiz() {
         int selectedIndex = quizTypeComboBox.getSelectedIndex();
         switch (selectedIndex) {
@@ -126,6 +200,15 @@ public class QuizSetupDialog extends JDialog {
                 return;
         }
         selectedQuestionCount = (Integer) questionCountSpinner.getValue();
+        dueOnlySelected = reviewScheduler != null && dueOnlyCheckBox.isSelected();
+        int maxTypos = typoComboBox.getSelectedIndex(); // 0, 1, 2개
+        boolean ignoreAccents = ignoreAccentsCheckBox.isSelected();
+        selectedAnswerMatcher = maxTypos == 0 && !ignoreAccents ? AnswerMatcher.EXACT : new AnswerMatcher(maxTypos, ignoreAccents);
+        switch (difficultyComboBox.getSelectedIndex()) {
+            case 1: selectedDifficulty = DistractorIndex.Difficulty.MEDIUM; break;
+            case 2: selectedDifficulty = DistractorIndex.Difficulty.HARD; break;
+            default: selectedDifficulty = DistractorIndex.Difficulty.EASY; break;
+        }
 
         if (selectedQuestionCount <= 0 && !allWordsForQuiz.isEmpty()) { // 단어가 있는데 문제수가 0이면
             JOptionPane.showMessageDialog(this, "문제 개수는 1 이상이어야 합니다.", "오류", JOptionPane.ERROR_MESSAGE);
@@ -154,6 +237,18 @@ public class QuizSetupDialog extends JDialog {
         return selectedQuestionCount;
     }
 
+    public AnswerMatcher getSelectedAnswerMatcher() {
+        return selectedAnswerMatcher;
+    }
+
+    public DistractorIndex.Difficulty getSelectedDifficulty() {
+        return selectedDifficulty;
+    }
+
+    public boolean isDueOnlySelected() {
+        return dueOnlySelected;
+    }
+
     public boolean didUserStartQuiz() { // 사용자가 "퀴즈 시작"을 눌렀는지 확인
         return quizStarted;
     }
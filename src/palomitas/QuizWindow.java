@@ -21,6 +21,8 @@ public class QuizWindow extends JDialog {
     private JButton showAnswerButton;
     private JButton nextButton;
 
+    private QuestionPrefetcher prefetcher; // 다음 문제들을 백그라운드에서 미리 준비
+    private boolean closed; // dispose() 뒤에 준비가 끝난 문제는 보여주지 않음
     private Timer questionTimer;
     private static final int TIME_LIMIT_SECONDS = 15;
     private int timeLeft;
@@ -29,6 +31,7 @@ public class QuizWindow extends JDialog {
         super(owner, "퀴즈 진행", true);
         this.quizLogic = quiz;
         initUI();
+        this.prefetcher = new QuestionPrefetcher(quiz, this::getQuestionText);
         if (this.quizLogic.getTotalQuestionsInQuiz() > 0) {
             loadNextQuestionOrShowResults();
         } else {
@@ -128,35 +131,49 @@ public class QuizWindow extends JDialog {
 
     private void loadNextQuestionOrShowResults() {
         if (quizLogic.hasNextQuestion()) {
-            Word currentQ = quizLogic.nextQuestion();
-            questionLabel.setText("<html><div style='text-align: center;'>" + getQuestionText(currentQ) + "</div></html>");
-            feedbackLabel.setText(" ");
-            timerLabel.setForeground(Color.BLACK);
-            answerField.setText("");
-            answerField.setEditable(true);
-            submitButton.setEnabled(true);
-            showAnswerButton.setEnabled(true);
-            nextButton.setText("다음 문제");
+            // 다음 문제는 보통 이미 준비되어 있어 바로 보여주고, 아직이면 준비되는 대로 보여줍니다.
             nextButton.setVisible(false);
+            prefetcher.take(quizLogic.getCurrentQuestionIndex() + 1, this::showQuestion);
+        } else {
+            showResults();
+        }
+    }
 
-            if (quizLogic.getQuizType() == Quiz.QuizType.SPANISH_TO_KOREAN_MULTIPLE_CHOICE ||
-                quizLogic.getQuizType() == Quiz.QuizType.KOREAN_TO_SPANISH_MULTIPLE_CHOICE) {
-                submitButton.setVisible(false);
-                setupMultipleChoiceOptions();
-            } else {
-                submitButton.setVisible(true);
-                answerField.requestFocusInWindow();
-            }
+    private void showQuestion(QuestionPrefetcher.PreparedQuestion question) {
+        if (closed) {
+            return; // 준비를 기다리는 동안 창이 닫힘
+        }
+        quizLogic.nextQuestion();
+        questionLabel.setText(question.getQuestionText());
+        feedbackLabel.setText(" ");
+        timerLabel.setForeground(Color.BLACK);
+        answerField.setText("");
+        answerField.setEditable(true);
+        submitButton.setEnabled(true);
+        showAnswerButton.setEnabled(true);
+        nextButton.setText("다음 문제");
+        nextButton.setVisible(false);
 
-            timeLeft = TIME_LIMIT_SECONDS;
-            timerLabel.setText("시간: " + timeLeft + "초");
-            questionTimer.start();
+        if (quizLogic.getQuizType() == Quiz.QuizType.SPANISH_TO_KOREAN_MULTIPLE_CHOICE ||
+            quizLogic.getQuizType() == Quiz.QuizType.KOREAN_TO_SPANISH_MULTIPLE_CHOICE) {
+            submitButton.setVisible(false);
+            setupMultipleChoiceOptions(question.getChoices());
         } else {
-            showResults();
+            submitButton.setVisible(true);
+            answerField.requestFocusInWindow();
         }
+
+        timeLeft = TIME_LIMIT_SECONDS;
+        timerLabel.setText("시간: " + timeLeft + "초");
+        questionTimer.start();
     }
 
+    // 문제 글 (HTML). 백그라운드 준비 스레드에서도 부르므로 화면 컴포넌트에 손대지 않습니다.
     private String getQuestionText(Word q) {
+        return "<html><div style='text-align: center;'>" + getQuestionBody(q) + "</div></html>";
+    }
+
+    private String getQuestionBody(Word q) {
         if (q == null) return "문제를 가져올 수 없습니다.";
         switch (quizLogic.getQuizType()) {
             case SPANISH_TO_KOREAN_SHORT_ANSWER:
@@ -170,8 +187,7 @@ public class QuizWindow extends JDialog {
         }
     }
 
-    private void setupMultipleChoiceOptions() {
-        List<String> choices = quizLogic.generateMultipleChoices();
+    private void setupMultipleChoiceOptions(List<String> choices) {
         for (int i = 0; i < choiceButtons.size(); i++) {
             if (i < choices.size()) {
                 choiceButtons.get(i).setText(choices.get(i));
@@ -189,8 +205,12 @@ public class QuizWindow extends JDialog {
             quizLogic.getQuizType() == Quiz.QuizType.KOREAN_TO_SPANISH_SHORT_ANSWER) {
             questionTimer.stop();
             String userAnswer = answerField.getText();
-            boolean isCorrect = quizLogic.checkAnswer(userAnswer);
-            showFeedback(isCorrect, getCorrectAnswerText());
+            AnswerMatcher.Result result = quizLogic.checkAnswer(userAnswer);
+            if (result == AnswerMatcher.Result.NEAR_MISS) {
+                showNearMissFeedback(getCorrectAnswerText());
+            } else {
+                showFeedback(result == AnswerMatcher.Result.CORRECT, getCorrectAnswerText());
+            }
             prepareForNextQuestion();
         }
     }
@@ -215,7 +235,7 @@ public class QuizWindow extends JDialog {
         questionTimer.stop();
         timerLabel.setText("시간 종료!");
         timerLabel.setForeground(Color.RED);
-        quizLogic.passQuestion();
+        quizLogic.timeOutQuestion();
         feedbackLabel.setText("<html><font color='orange'>시간 초과!</font> 정답: " + getCorrectAnswerText() + "</html>");
         feedbackLabel.setForeground(Color.ORANGE);
         prepareForNextQuestion();
@@ -231,6 +251,12 @@ public class QuizWindow extends JDialog {
         }
     }
 
+    // 오타를 허용한 정답: 맞은 것으로 치되 정확한 철자를 보여줍니다.
+    private void showNearMissFeedback(String correctAnswer) {
+        feedbackLabel.setText("<html><font color='green'>정답입니다!</font> <font color='orange'>(철자 확인: " + correctAnswer + ")</font></html>");
+        feedbackLabel.setForeground(Color.GREEN);
+    }
+
     private String getCorrectAnswerText() {
         Word currentQ = quizLogic.getCurrentQuestion();
         if (currentQ == null) return "";
@@ -270,7 +296,10 @@ public class QuizWindow extends JDialog {
             quizLogic.getScore(),
             quizLogic.getTotalQuestionsInQuiz(),
             quizLogic.getPassedCount(),
-            quizLogic.getWrongAnswers()
+            quizLogic.getNearMissCount(),
+            quizLogic.getWrongAnswers(),
+            quizLogic.getQuizType(),
+            quizLogic.getLatencyStats()
         );
         
         dispose(); // 현재 퀴즈 창을 닫고
@@ -282,6 +311,10 @@ public class QuizWindow extends JDialog {
         if (questionTimer != null && questionTimer.isRunning()) {
             questionTimer.stop();
         }
+        closed = true;
+        if (prefetcher != null) {
+            prefetcher.shutdown();
+        }
         super.dispose();
     }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+package palomitas;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 퀴즈에서 채점한 답을 하나도 빠짐없이 이어 붙이는 이진 기록 (words.csv.reviewlog). 분석용으로 처음부터 차례로 읽습니다.
+// 파일: [int 매직 넘버][int 버전] 뒤에 레코드가 이어짐
+// 레코드: [short 나머지 길이][long 시각(ms)][byte 퀴즈 유형][byte 결과][int 응답 시간(ms)][short 길이][UTF-8 스페인어]
+//
+// 답마다 파일에 쓰지 않고 메모리 버퍼에 모았다가, 버퍼가 차거나 백그라운드 스레드가 1초마다 파일에 쓰고 fsync합니다.
+// 그래서 갑자기 꺼지면 마지막 1초 정도의 기록은 잃을 수 있지만, 수백만 건을 기록해도 답 하나에 드는 비용은 버퍼 복사뿐입니다.
+// 중간에 꺼져 끝이 잘린 레코드는 다음에 열 때 잘라 냅니다. (그 뒤에 이어 쓴 기록까지 못 읽게 되지 않도록)
+// 형식을 알 수 없는 파일은 words.csv.reviewlog.bad로 옮기고 새로 시작합니다.
+public class ReviewLog {
+    public enum Outcome {
+        CORRECT, NEAR_MISS, WRONG, PASS, TIMEOUT
+    }
+
+    // 읽을 때 돌려주는 기록 하나
+    public static class Entry {
+        private final long timeMillis;
+        private final Quiz.QuizType quizType;
+        private final Outcome outcome;
+        private final int responseMillis;
+        private final String spanish;
+
+        Entry(long timeMillis, Quiz.QuizType quizType, Outcome outcome, int responseMillis, String spanish) {
+            this.timeMillis = timeMillis;
+            this.quizType = quizType;
+            this.outcome = outcome;
+            this.responseMillis = responseMillis;
+            this.spanish = spanish;
+        }
+
+        public long getTimeMillis() { return timeMillis; }
+        public Quiz.QuizType getQuizType() { return quizType; }
+        public Outcome getOutcome() { return outcome; }
+        public int getResponseMillis() { return responseMillis; }
+        public String getSpanish() { return spanish; }
+    }
+
+    private static final int MAGIC = 0x504C4D4C; // "PLML"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int FIXED_RECORD_SIZE = 8 + 1 + 1 + 4 + 2; // 스페인어 바이트를 뺀 레코드 본문
+    private static final int MAX_WORD_BYTES = 1024; // 이보다 긴 단어는 잘라서 기록
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long FSYNC_INTERVAL_MILLIS = 1000;
+
+    private final Path logPath;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE); // this로 동기화
+    private final ScheduledExecutorService syncExecutor;
+    private boolean dirty; // 마지막 fsync 뒤에 기록한 것이 있는지 (this로 동기화)
+
+    ReviewLog(String deckFilePath) throws IOException {
+        this.logPath = Paths.get(deckFilePath + ".reviewlog");
+        FileChannel opened = open(logPath);
+        if (!hasValidHeader(opened)) {
+            // 다른 프로그램이 쓴 파일이거나 헤더가 망가짐: 옆으로 치워 두고 새로 시작 (퀴즈마다 다시 열다 실패하지 않도록)
+            opened.close();
+            Path badPath = Paths.get(logPath + ".bad");
+            Files.move(logPath, badPath, StandardCopyOption.REPLACE_EXISTING);
+            System.err.println("복습 기록 파일 형식을 알 수 없어 " + badPath + "로 옮기고 새로 시작합니다.");
+            opened = open(logPath);
+        }
+        this.channel = opened;
+        long validLength = validLength();
+        if (validLength < channel.size()) {
+            System.err.println("복습 기록 끝의 잘린 레코드를 지웁니다: " + (channel.size() - validLength) + "바이트");
+            channel.truncate(validLength);
+        }
+        channel.position(channel.size());
+        if (channel.size() == 0) {
+            buffer.putInt(MAGIC).putInt(VERSION);
+        }
+        syncExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "palomitas-review-log");
+            t.setDaemon(true);
+            return t;
+        });
+        syncExecutor.scheduleWithFixedDelay(this::sync, FSYNC_INTERVAL_MILLIS, FSYNC_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public Path getPath() {
+        return logPath;
+    }
+
+    public synchronized void append(Word word, Quiz.QuizType quizType, Outcome outcome, int responseMillis, long timeMillis) {
+        byte[] spanish = word.getSpanish().getBytes(StandardCharsets.UTF_8);
+        int wordLength = Math.min(spanish.length, MAX_WORD_BYTES);
+        int recordSize = 2 + FIXED_RECORD_SIZE + wordLength;
+        try {
+            if (buffer.remaining() < recordSize) {
+                writeBuffer();
+            }
+            buffer.putShort((short) (FIXED_RECORD_SIZE + wordLength));
+            buffer.putLong(timeMillis);
+            buffer.put((byte) quizType.ordinal());
+            buffer.put((byte) outcome.ordinal());
+            buffer.putInt(responseMillis);
+            buffer.putShort((short) wordLength);
+            buffer.put(spanish, 0, wordLength);
+            dirty = true;
+        } catch (IOException e) {
+            System.err.println("복습 기록 쓰기 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    // 모아 둔 기록을 파일에 쓰고 디스크까지 내려 보냅니다. (주기적으로, 그리고 종료 직전에 호출)
+    public void sync() {
+        try {
+            synchronized (this) {
+                if (!dirty) {
+                    return;
+                }
+                writeBuffer();
+                dirty = false;
+            }
+            channel.force(false); // 기록 중에도 답을 계속 받을 수 있도록 잠금 밖에서
+        } catch (IOException e) {
+            System.err.println("복습 기록 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    public void close() {
+        syncExecutor.shutdown();
+        try {
+            // 주기 sync가 fsync하는 도중에 파일을 닫지 않도록 끝나기를 기다립니다.
+            syncExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("복습 기록 닫기 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static FileChannel open(Path logPath) throws IOException {
+        return FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    // 비어 있거나(헤더도 못 쓰고 꺼진 경우 포함) 이 형식의 헤더로 시작하면 true
+    private static boolean hasValidHeader(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            return true;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+        }
+        header.flip();
+        return header.getInt() == MAGIC && header.getInt() == VERSION;
+    }
+
+    // 처음부터 온전한 레코드가 끝나는 위치. 본문은 읽지 않고 길이만 따라가되, 레코드마다 읽지 않고
+    // BUFFER_SIZE씩 한꺼번에 읽어 그 안의 길이들을 따라갑니다. (레코드 수백만 개인 기록도 몇 번의 읽기로 끝남)
+    private long validLength() throws IOException {
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            return 0; // 헤더도 못 쓰고 꺼졌으면 새로 시작
+        }
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_SIZE);
+        long position = HEADER_SIZE;
+        while (position + 2 <= size) {
+            chunk.clear();
+            while (chunk.hasRemaining() && channel.read(chunk, position + chunk.position()) > 0) {
+            }
+            chunk.flip();
+            if (chunk.limit() < 2) {
+                break; // 읽는 도중에 파일이 줄어듦
+            }
+            // 길이가 이 조각 안에 있는 레코드까지 따라가고, 걸친 레코드부터 다음 조각을 읽습니다.
+            int offset = 0;
+            while (offset + 2 <= chunk.limit()) {
+                int recordSize = 2 + (chunk.getShort(offset) & 0xFFFF);
+                if (position + recordSize > size) {
+                    return position;
+                }
+                offset += recordSize;
+                position += recordSize;
+            }
+        }
+        return position;
+    }
+
+    // 기록을 처음부터 차례로 읽어 consumer에 넘기고, 읽은 개수를 돌려줍니다. 끝이 잘린 레코드는 건너뜁니다.
+    // 아직 sync()되지 않은 최근 기록은 보이지 않습니다.
+    public static long read(Path logPath, Consumer<Entry> consumer) throws IOException {
+        Quiz.QuizType[] quizTypes = Quiz.QuizType.values();
+        Outcome[] outcomes = Outcome.values();
+        long count = 0;
+        try (InputStream fileIn = Files.newInputStream(logPath);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(fileIn, BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("복습 기록 파일 형식을 알 수 없습니다: " + logPath);
+            }
+            byte[] wordBytes = new byte[MAX_WORD_BYTES];
+            while (true) {
+                int recordLength;
+                try {
+                    recordLength = in.readUnsignedShort();
+                } catch (EOFException e) {
+                    break; // 끝
+                }
+                long timeMillis = in.readLong();
+                int type = in.readUnsignedByte();
+                int outcome = in.readUnsignedByte();
+                int responseMillis = in.readInt();
+                int wordLength = in.readUnsignedShort();
+                in.readFully(wordBytes, 0, wordLength);
+                in.skipBytes(recordLength - FIXED_RECORD_SIZE - wordLength); // 이후 버전에서 늘어날 필드
+                if (type < quizTypes.length && outcome < outcomes.length) {
+                    consumer.accept(new Entry(timeMillis, quizTypes[type], outcomes[outcome], responseMillis,
+                            new String(wordBytes, 0, wordLength, StandardCharsets.UTF_8)));
+                    count++;
+                }
+            }
+        } catch (EOFException e) {
+            // 마지막 레코드가 잘림 (쓰는 도중에 읽은 경우)
+        }
+        return count;
+    }
+}
@@ -0,0 +1,334 @@
+package palomitas;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 간격 반복(SM-2) 복습 일정. 단어마다 복습 횟수, 쉬움 정도(ease), 간격(일), 다음 복습 시각을 기억하고
+// 복습할 때가 된 단어를 다음 복습 시각 순서의 우선순위 큐에서 꺼냅니다. (꺼내기/기록 모두 O(log n))
+// 일정은 words.csv 옆의 words.csv.reviews에 저장합니다. 기록할 때마다 쓰지 않고 잠시 모아서 백그라운드에서 씁니다.
+//
+// 단어는 스페인어 단어(대소문자 무시)로 찾습니다. 일정은 단어장에 있는 단어의 것만 남깁니다:
+// 읽을 때 없는 단어의 일정은 버리고, 단어가 지워지면 버리고, 스페인어 단어를 고치면 새 단어로 옮깁니다.
+// (그래서 새 단어 수는 단어장 크기 - 일정 수)
+// 모든 메소드는 this로 동기화되며, 이 잠금을 쥔 채 단어장의 읽기 잠금을 잡을 수 있습니다. (반대 순서로는 잡지 않음)
+// 변경 알림은 단어장이 잠긴 채 오므로 여기서 this를 잡지 않고 큐에 넣어 두었다가, 다음에 메소드를 부를 때 반영합니다.
+public class ReviewScheduler {
+    private static final int MAGIC = 0x504C4D52; // "PLMR"
+    private static final int VERSION = 1;
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    private static final float INITIAL_EASE = 2.5f;
+    private static final float MIN_EASE = 1.3f;
+    private static final long SAVE_DELAY_MILLIS = 1000;
+
+    // 답의 질(SM-2의 0~5). 3 이상이면 기억한 것으로 봅니다.
+    public static final int QUALITY_PERFECT = 5;    // 주관식 정답
+    public static final int QUALITY_RECOGNIZED = 4; // 객관식 정답 (보고 고른 것이라 한 단계 낮게)
+    public static final int QUALITY_NEAR_MISS = 3;  // 오타로 인정
+    public static final int QUALITY_WRONG = 1;
+    public static final int QUALITY_BLACKOUT = 0;   // 정답 보기, 시간 초과
+
+    private static class ReviewState {
+        final String spanish;
+        int repetitions;
+        float ease = INITIAL_EASE;
+        int intervalDays;
+        long dueMillis;
+        int stamp; // 바뀔 때마다 늘어남. 큐에 남은 예전 항목을 알아보는 데 씀
+
+        ReviewState(String spanish) {
+            this.spanish = spanish;
+        }
+    }
+
+    // 큐에서 자리를 옮기는 대신 새 항목을 넣고, 꺼낼 때 stamp가 다른 예전 항목은 버립니다.
+    private static class DueEntry {
+        final ReviewState state;
+        final long dueMillis;
+        final int stamp;
+
+        DueEntry(ReviewState state) {
+            this.state = state;
+            this.dueMillis = state.dueMillis;
+            this.stamp = state.stamp;
+        }
+    }
+
+    private final WordManager wordManager;
+    private final Path reviewsPath;
+    // 키: WordManager.toKey(스페인어). 바꾸는 것은 this를 쥔 채로만 하고, 변경 알림에서 잠금 없이 있는지만 봅니다.
+    private final Map<String, ReviewState> states = new ConcurrentHashMap<>();
+    private final PriorityQueue<DueEntry> dueQueue = new PriorityQueue<>((a, b) -> Long.compare(a.dueMillis, b.dueMillis));
+    private final SaveScheduler saveScheduler;
+    private final ConcurrentLinkedQueue<WordChangeEvent> pendingChanges = new ConcurrentLinkedQueue<>(); // 일정이 있는 단어의 삭제/이름 변경
+    private volatile boolean pruneRequested; // 단어장을 통째로 다시 읽음
+    private final WordChangeListener deckListener = this::deckChanged;
+
+    ReviewScheduler(WordManager wordManager, String deckFilePath) {
+        this.wordManager = wordManager;
+        this.reviewsPath = Paths.get(deckFilePath + ".reviews");
+        this.saveScheduler = new SaveScheduler("palomitas-review-save", this::save, SAVE_DELAY_MILLIS);
+        wordManager.addWordChangeListener(deckListener); // 읽기 전에 등록해야 그 사이의 변경을 놓치지 않음
+        load();
+    }
+
+    // 오늘(지역 시간 기준 자정 전까지) 복습할 단어를 복습 시각 순서로 최대 limit개.
+    // 모자라면 아직 한 번도 복습하지 않은 새 단어를 단어장 순서대로 채웁니다.
+    // 꺼낸 단어는 답을 기록할 때까지 큐에 그대로 남습니다.
+    public synchronized List<Word> dueWords(int limit, long nowMillis) {
+        applyDeckChanges();
+        List<Word> result = new ArrayList<>();
+        long endOfDay = endOfDay(nowMillis);
+        List<DueEntry> kept = new ArrayList<>();
+        while (result.size() < limit && !dueQueue.isEmpty() && dueQueue.peek().dueMillis <= endOfDay) {
+            DueEntry entry = dueQueue.poll();
+            if (entry.stamp != entry.state.stamp || states.get(WordManager.toKey(entry.state.spanish)) != entry.state) {
+                continue; // 예전 항목
+            }
+            Word word = wordManager.getWord(entry.state.spanish);
+            if (word == null) {
+                states.remove(WordManager.toKey(entry.state.spanish)); // 단어장에서 지워진 단어
+                saveScheduler.requestSave();
+                continue;
+            }
+            result.add(word);
+            kept.add(entry);
+        }
+        dueQueue.addAll(kept);
+
+        if (result.size() < limit) {
+            for (Word word : wordManager.getAllWords()) {
+                if (result.size() >= limit) break;
+                if (!states.containsKey(WordManager.toKey(word.getSpanish()))) {
+                    result.add(word);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 오늘 복습할 단어 수 (새 단어 제외). 퀴즈 설정 창에 보여주는 용도라 전체를 훑습니다.
+    public synchronized int countDue(long nowMillis) {
+        applyDeckChanges();
+        long endOfDay = endOfDay(nowMillis);
+        int count = 0;
+        for (ReviewState state : states.values()) {
+            if (state.dueMillis <= endOfDay) count++;
+        }
+        return count;
+    }
+
+    // 아직 한 번도 복습하지 않은 단어 수 (일정은 단어장에 있는 단어의 것만 남기므로 빼기로 충분)
+    public synchronized int countNew() {
+        applyDeckChanges();
+        return Math.max(0, wordManager.getAllWords().size() - states.size());
+    }
+
+    // 답을 하나 기록하고 SM-2로 다음 복습 시각을 정합니다.
+    public synchronized void record(Word word, int quality, long nowMillis) {
+        applyDeckChanges();
+        String key = WordManager.toKey(word.getSpanish());
+        ReviewState state = states.get(key);
+        if (state == null) {
+            state = new ReviewState(word.getSpanish());
+            states.put(key, state);
+        }
+        if (quality < 3) {
+            state.repetitions = 0; // 잊었으면 처음부터
+            state.intervalDays = 1;
+        } else {
+            if (state.repetitions == 0) {
+                state.intervalDays = 1;
+            } else if (state.repetitions == 1) {
+                state.intervalDays = 6;
+            } else {
+                state.intervalDays = Math.round(state.intervalDays * state.ease);
+            }
+            state.repetitions++;
+        }
+        int miss = 5 - quality;
+        state.ease = Math.max(MIN_EASE, state.ease + 0.1f - miss * (0.08f + miss * 0.02f));
+        state.dueMillis = nowMillis + state.intervalDays * DAY_MILLIS;
+        state.stamp++;
+        dueQueue.add(new DueEntry(state));
+        if (dueQueue.size() > states.size() * 2 + 64) {
+            rebuildQueue(); // 예전 항목이 너무 많이 쌓이면 정리
+        }
+        saveScheduler.requestSave();
+    }
+
+    // 단어장이 잠긴 채 호출됨: 일정이 있는 단어의 변경만 큐에 넣습니다. (퀴즈 없이 편집만 오래 해도 큐가 커지지 않도록)
+    private void deckChanged(WordChangeEvent event) {
+        switch (event.getType()) {
+            case REMOVED:
+                if (states.containsKey(WordManager.toKey(event.getOldWord().getSpanish()))) {
+                    pendingChanges.add(event);
+                }
+                break;
+            case UPDATED:
+                String oldKey = WordManager.toKey(event.getOldWord().getSpanish());
+                if (states.containsKey(oldKey) && !oldKey.equals(WordManager.toKey(event.getWords().get(0).getSpanish()))) {
+                    pendingChanges.add(event); // 스페인어 단어를 고친 경우만
+                }
+                break;
+            case RELOADED:
+                pruneRequested = true;
+                break;
+            default:
+                break; // 추가된 단어는 새 단어
+        }
+    }
+
+    // 쌓인 단어장 변경을 일정에 반영합니다. (this를 쥔 채 호출)
+    private void applyDeckChanges() {
+        WordChangeEvent event;
+        while ((event = pendingChanges.poll()) != null) {
+            switch (event.getType()) {
+                case REMOVED:
+                    if (states.remove(WordManager.toKey(event.getOldWord().getSpanish())) != null) {
+                        saveScheduler.requestSave();
+                    }
+                    break;
+                case UPDATED:
+                    moveState(event.getOldWord(), event.getWords().get(0));
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (pruneRequested) { // 이름 변경을 옮긴 뒤에 (고친 단어가 예전 이름으로 버려지지 않도록)
+            pruneRequested = false;
+            pruneStates();
+        }
+    }
+
+    // 스페인어 단어를 고친 단어의 일정을 새 단어로 옮깁니다. (예전 큐 항목은 꺼낼 때 버려짐)
+    private void moveState(Word oldWord, Word newWord) {
+        ReviewState old = states.remove(WordManager.toKey(oldWord.getSpanish()));
+        if (old == null) {
+            return;
+        }
+        ReviewState moved = new ReviewState(newWord.getSpanish());
+        moved.repetitions = old.repetitions;
+        moved.ease = old.ease;
+        moved.intervalDays = old.intervalDays;
+        moved.dueMillis = old.dueMillis;
+        states.put(WordManager.toKey(moved.spanish), moved);
+        dueQueue.add(new DueEntry(moved));
+        saveScheduler.requestSave();
+    }
+
+    // 단어장에 없는 단어의 일정을 버립니다. (일정 수만큼 조회)
+    private void pruneStates() {
+        int before = states.size();
+        states.keySet().removeIf(key -> !wordManager.containsWord(key));
+        if (states.size() != before) {
+            rebuildQueue();
+            saveScheduler.requestSave();
+        }
+    }
+
+    private void rebuildQueue() {
+        dueQueue.clear();
+        for (ReviewState state : states.values()) {
+            dueQueue.add(new DueEntry(state));
+        }
+    }
+
+    // 예약된 저장이 있으면 지금 씁니다. (종료 직전에 호출)
+    public void flush() {
+        saveScheduler.flush();
+    }
+
+    // 남은 저장을 마치고 저장 스레드를 멈춥니다. (WordManager.close()에서 호출)
+    void close() {
+        wordManager.removeWordChangeListener(deckListener);
+        saveScheduler.shutdown();
+    }
+
+    private static long endOfDay(long nowMillis) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = Instant.ofEpochMilli(nowMillis).atZone(zone).toLocalDate();
+        return today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli() - 1;
+    }
+
+    // 형식: 매직 넘버, 버전, 레코드 수, 레코드마다 [writeUTF 스페인어][int 횟수][float ease][int 간격][long 다음 복습 시각]
+    private synchronized void load() {
+        if (!Files.exists(reviewsPath)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(reviewsPath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                System.err.println("복습 일정 파일 형식을 알 수 없어 무시합니다: " + reviewsPath);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                ReviewState state = new ReviewState(in.readUTF());
+                state.repetitions = in.readInt();
+                state.ease = in.readFloat();
+                state.intervalDays = in.readInt();
+                state.dueMillis = in.readLong();
+                states.put(WordManager.toKey(state.spanish), state);
+                dueQueue.add(new DueEntry(state));
+            }
+            System.out.println("복습 일정 " + count + "개를 읽었습니다.");
+        } catch (IOException e) {
+            // 잘린 파일이면 읽은 데까지만 씁니다. 다음 저장 때 온전한 파일로 다시 써집니다.
+            System.err.println("복습 일정 읽기 중 오류 발생 (" + states.size() + "개만 사용): " + e);
+        }
+        pruneStates(); // 지난 실행 뒤에 단어장 파일에서 지워진 단어
+    }
+
+    // 저장 스레드에서 실행: 잠금을 쥔 채 값만 복사하고, 파일 쓰기는 잠금 없이 임시 파일에 한 뒤 바꿔치기합니다.
+    private void save() {
+        List<ReviewState> copies = new ArrayList<>();
+        synchronized (this) {
+            for (ReviewState state : states.values()) {
+                ReviewState copy = new ReviewState(state.spanish);
+                copy.repetitions = state.repetitions;
+                copy.ease = state.ease;
+                copy.intervalDays = state.intervalDays;
+                copy.dueMillis = state.dueMillis;
+                copies.add(copy);
+            }
+        }
+        Path tempFile = reviewsPath.resolveSibling(reviewsPath.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(copies.size());
+                for (ReviewState state : copies) {
+                    out.writeUTF(state.spanish);
+                    out.writeInt(state.repetitions);
+                    out.writeFloat(state.ease);
+                    out.writeInt(state.intervalDays);
+                    out.writeLong(state.dueMillis);
+                }
+            }
+            try {
+                Files.move(tempFile, reviewsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tempFile, reviewsPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("복습 일정 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+}
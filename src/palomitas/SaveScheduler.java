@@ -0,0 +1,72 @@
+package palomitas;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 저장 요청을 모아서 백그라운드 스레드 하나에서 처리하는 스케줄러
+// 짧은 시간에 여러 번 requestSave()가 불려도 delayMillis 안에 들어온 요청은 한 번의 저장으로 합쳐집니다.
+public class SaveScheduler {
+    private final ScheduledExecutorService executor;
+    private final Runnable saveTask;
+    private final long delayMillis;
+    private ScheduledFuture<?> pendingSave; // 아직 실행되지 않은 예약 저장
+
+    public SaveScheduler(String threadName, Runnable saveTask, long delayMillis) {
+        this.saveTask = saveTask;
+        this.delayMillis = delayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true); // 저장 스레드 때문에 프로그램이 종료되지 않는 일이 없도록
+            return t;
+        });
+    }
+
+    // 저장을 예약합니다. 이미 예약된 저장이 있으면 그 저장에 합쳐지므로 바로 반환됩니다.
+    public synchronized void requestSave() {
+        if (pendingSave != null) {
+            return;
+        }
+        pendingSave = executor.schedule(this::runScheduledSave, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 저장 이외의 파일 작업(예: 저널 압축)도 같은 스레드에서 순서대로 실행되도록 넘겨받습니다.
+    public Future<?> submit(Runnable task) {
+        return executor.submit(task);
+    }
+
+    // 예약된 저장이 있으면 기다리지 않고 지금 실행하고, 끝날 때까지 기다립니다. (종료 직전에 호출)
+    public void flush() {
+        boolean hadPending;
+        synchronized (this) {
+            hadPending = pendingSave != null && pendingSave.cancel(false);
+            if (hadPending) {
+                pendingSave = null;
+            }
+        }
+        // 취소하지 못했다면 이미 실행 중이므로, 빈 작업을 넣어 그 저장이 끝나기를 기다립니다.
+        Runnable task = hadPending ? saveTask : () -> { };
+        try {
+            executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("저장 중 오류 발생: " + e.getCause());
+        }
+    }
+
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void runScheduledSave() {
+        synchronized (this) {
+            pendingSave = null; // 저장 도중 들어온 요청은 새 저장으로 다시 예약되도록
+        }
+        saveTask.run();
+    }
+}
@@ -0,0 +1,82 @@
+package palomitas;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 불러오기/가져오기 동안 같은 내용의 문자열(한국어 뜻, 자주 쓰는 예문)을 하나의 객체로 합치는 풀
+// 큰 단어장은 같은 뜻과 예문이 수천 번 반복되므로, 읽는 즉시 합쳐 두면 반복된 만큼의 String이 바로 버려집니다.
+// 풀은 작업 하나(로드/가져오기)에만 쓰고 버리며, maxEntries개까지만 기억합니다. 여러 스레드에서 동시에 써도 됩니다.
+public class StringPool {
+    private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final AtomicInteger entries = new AtomicInteger();
+    private final AtomicLong reusedCount = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public StringPool(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    // 같은 내용의 문자열이 이미 풀에 있으면 그 객체를, 없으면 (자리가 남아 있을 때) 등록한 뒤 그대로 반환합니다.
+    public String intern(String value) {
+        if (value == null || value.isEmpty() || maxEntries <= 0) {
+            return value;
+        }
+        String canonical = pool.get(value);
+        if (canonical != null) {
+            reusedCount.incrementAndGet();
+            bytesSaved.addAndGet(estimateSize(value));
+            return canonical;
+        }
+        if (entries.get() >= maxEntries) {
+            return value; // 풀이 가득 차면 더 이상 기억하지 않음
+        }
+        canonical = pool.putIfAbsent(value, value);
+        if (canonical == null) {
+            entries.incrementAndGet();
+            return value;
+        }
+        reusedCount.incrementAndGet();
+        bytesSaved.addAndGet(estimateSize(value));
+        return canonical;
+    }
+
+    // CsvReader가 읽은 필드 중 한국어 뜻과 예문을 풀의 문자열로 바꿉니다. (스페인어 단어는 중복 제거되므로 제외)
+    public void internFields(List<String> fields) {
+        for (int i = 1; i < fields.size() && i < 3; i++) {
+            fields.set(i, intern(fields.get(i)));
+        }
+    }
+
+    public long getReusedCount() {
+        return reusedCount.get();
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    public int size() {
+        return entries.get();
+    }
+
+    public String getStatistics() {
+        return String.format("문자열 풀: %d개 등록, %d번 재사용, 약 %.1f KB 절약",
+                size(), getReusedCount(), getBytesSaved() / 1024.0);
+    }
+
+    // 버려진 String 하나의 대략적인 힙 크기: 객체 헤더와 필드(약 24바이트) + 배열 헤더(16바이트) + 내용
+    // (라틴 문자만 있으면 글자당 1바이트, 한글 등이 섞이면 2바이트로 저장됩니다)
+    private static long estimateSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 40L + (long) value.length() * bytesPerChar;
+    }
+}
@@ -0,0 +1,11 @@
+package palomitas;
+
+// 오래 걸리는 파일 작업(CSV 가져오기/내보내기)의 진행 상황을 받는 콜백
+// 작업 스레드에서 (병렬 파싱 중에는 여러 스레드에서 동시에) 호출되므로, 화면 갱신은 구현하는 쪽에서 EDT로 넘겨야 합니다.
+public interface TaskProgress {
+    // rows: 지금까지 처리한 행 수, percent: 전체 작업 중 끝난 비율(0~100)
+    void update(long rows, int percent);
+
+    // true를 반환하면 작업은 다음 확인 지점에서 멈춥니다.
+    boolean isCancelled();
+}
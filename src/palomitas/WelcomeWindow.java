@@ -4,7 +4,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.List;
 
 public class WelcomeWindow extends JFrame {
 
@@ -48,37 +47,7 @@ public class WelcomeWindow extends JFrame {
     }
 
     private void openQuizDialog() {
-        // 퀴즈를 시작하기 위해 단어 목록을 불러옵니다.
-        WordManager wordManager = new WordManager();
-        List<Word> allWords = wordManager.getAllWords();
-
-        if (allWords.isEmpty()) {
-            JOptionPane.showMessageDialog(this, 
-                "퀴즈를 시작하려면 단어장에 단어가 하나 이상 있어야 합니다.", 
-                "퀴즈 불가", 
-                JOptionPane.WARNING_MESSAGE);
-            return;
-        }
-
-        // MainApp에 있던 퀴즈 시작 로직을 그대로 가져옵니다.
-        QuizSetupDialog setupDialog = new QuizSetupDialog(this, allWords);
-        setupDialog.setVisible(true);
-
-        if (setupDialog.didUserStartQuiz() && setupDialog.getSelectedQuestionCount() > 0) {
-            Quiz.QuizType type = setupDialog.getSelectedQuizType();
-            int count = setupDialog.getSelectedQuestionCount();
-
-            Quiz quiz = new Quiz(allWords, type, count);
-            if (quiz.getTotalQuestionsInQuiz() > 0) {
-                 QuizWindow quizWindow = new QuizWindow(this, quiz);
-                 quizWindow.setVisible(true);
-            } else {
-                 JOptionPane.showMessageDialog(this, 
-                    "퀴즈에 출제할 문제가 없습니다. 단어 수나 문제 설정을 확인해주세요.", 
-                    "퀴즈 오류", 
-                    JOptionPane.WARNING_MESSAGE);
-            }
-        }
+        QuizLauncher.open(this, WordManager.getInstance());
     }
 
     private void openWordManager() {
@@ -1,5 +1,9 @@
 package palomitas;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 public class Word {
     private String spanish;
     private String korean;
@@ -37,46 +41,51 @@ public class Word {
         this.example = (example == null || example.trim().isEmpty()) ? "" : example;
     }
 
-    // CSV 파일 저장을 위한 문자열 변환 (쉼표로 구분)
+    // CSV 파일 저장을 위한 문자열 변환 (쉼표로 구분, RFC 4180 규칙으로 필요한 필드만 큰따옴표 처리)
     public String toCsvString() {
         // 예문이 없으면 빈 칸으로 저장
-        String ex = (example == null || example.isEmpty()) ? "" : example;
-        // CSV 내부의 쉼표나 줄바꿈 문자를 고려해야 하지만, MVP에서는 단순하게 갑니다.
-        return escapeCsv(spanish) + "," + escapeCsv(korean) + "," + escapeCsv(ex);
+        String ex = getExample();
+        if (ex == null) ex = "";
+        return escapeCsv(getSpanish()) + "," + escapeCsv(getKorean()) + "," + escapeCsv(ex);
     }
 
-    // CSV 문자열에서 Word 객체 생성 (정적 메소드)
+    // CSV 한 줄에서 Word 객체 생성 (정적 메소드). 파일을 읽을 때는 CsvReader로 레코드를 읽고 fromCsvFields를 사용하세요.
     public static Word fromCsvString(String csvLine) {
-        String[] parts = csvLine.split(",", -1); // -1을 주어 빈 문자열도 유지
-        if (parts.length >= 2) {
-            String spanish = unescapeCsv(parts[0]);
-            String korean = unescapeCsv(parts[1]);
-            String example = (parts.length > 2) ? unescapeCsv(parts[2]) : "";
-            return new Word(spanish, korean, example);
+        if (csvLine == null) return null;
+        List<String> fields = new ArrayList<>(3);
+        try {
+            char[] chars = csvLine.toCharArray();
+            if (!new CsvReader(chars, 0, chars.length).readRecord(fields)) {
+                return null;
+            }
+        } catch (IOException e) { // 메모리 내 문자열을 읽으므로 발생하지 않음
+            return null;
         }
-        return null; // 형식이 맞지 않으면 null 반환
+        return fromCsvFields(fields);
     }
 
-    // CSV 특수 문자 처리 (간단 버전)
-    private String escapeCsv(String value) {
-        if (value == null) return "";
-        if (value.contains("\"") || value.contains(",") || value.contains("\n")) {
-            return "\"" + value.replace("\"", "\"\"") + "\"";
+    // CsvReader가 읽은 필드들로 Word 객체 생성. 필드가 2개 미만이면 형식이 맞지 않으므로 null 반환
+    public static Word fromCsvFields(List<String> fields) {
+        if (fields.size() >= 2) {
+            String spanish = fields.get(0);
+            String korean = fields.get(1);
+            String example = (fields.size() > 2) ? fields.get(2) : "";
+            return new Word(spanish, korean, example);
         }
-        return value;
+        return null;
     }
 
-    private static String unescapeCsv(String value) {
+    // CSV 특수 문자 처리: 큰따옴표, 쉼표, 줄바꿈이 있으면 큰따옴표로 감싸고 안의 큰따옴표는 두 번 씁니다.
+    private String escapeCsv(String value) {
         if (value == null) return "";
-        if (value.startsWith("\"") && value.endsWith("\"")) {
-            value = value.substring(1, value.length() - 1); // 양쪽 큰따옴표 제거
-            return value.replace("\"\"", "\""); // 이중 큰따옴표를 단일 큰따옴표로
+        if (value.contains("\"") || value.contains(",") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
         }
         return value;
     }
 
     @Override
     public String toString() { // 객체를 문자열로 표현할 때 (디버깅용)
-        return "Spanish: " + spanish + ", Korean: " + korean + ", Example: " + example;
+        return "Spanish: " + getSpanish() + ", Korean: " + getKorean() + ", Example: " + getExample();
     }
 }
\ No newline at end of file
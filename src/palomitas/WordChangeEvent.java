@@ -0,0 +1,64 @@
+package palomitas;
+
+import java.util.Collections;
+import java.util.List;
+
+// 단어장 변경 내용. 위치(index)는 getAllWords() 목록 기준이며, 변경이 적용된 뒤의 위치입니다.
+// (REMOVED는 지워지기 전의 위치)
+public class WordChangeEvent {
+    public enum Type {
+        ADDED,    // firstIndex..lastIndex 위치에 words가 추가됨
+        REMOVED,  // firstIndex 위치의 oldWord가 삭제됨
+        UPDATED,  // firstIndex 위치의 oldWord가 words.get(0)으로 바뀜
+        RELOADED  // 파일에서 다시 읽는 등 전체가 바뀜 (words는 바뀐 뒤의 전체 목록)
+    }
+
+    private final Type type;
+    private final int firstIndex;
+    private final int lastIndex;
+    private final List<Word> words;
+    private final Word oldWord;
+    private final long version; // 이 변경이 적용된 뒤의 단어장 version (WordManager가 알림을 보낼 때 채움)
+
+    private WordChangeEvent(Type type, int firstIndex, int lastIndex, List<Word> words, Word oldWord, long version) {
+        this.type = type;
+        this.firstIndex = firstIndex;
+        this.lastIndex = lastIndex;
+        this.words = words;
+        this.oldWord = oldWord;
+        this.version = version;
+    }
+
+    public static WordChangeEvent added(int firstIndex, List<Word> addedWords) {
+        return new WordChangeEvent(Type.ADDED, firstIndex, firstIndex + addedWords.size() - 1,
+                Collections.unmodifiableList(addedWords), null, 0);
+    }
+
+    public static WordChangeEvent removed(int index, Word removedWord) {
+        return new WordChangeEvent(Type.REMOVED, index, index, Collections.emptyList(), removedWord, 0);
+    }
+
+    public static WordChangeEvent updated(int index, Word oldWord, Word newWord) {
+        return new WordChangeEvent(Type.UPDATED, index, index, Collections.singletonList(newWord), oldWord, 0);
+    }
+
+    public static WordChangeEvent reloaded(WordSnapshot allWords) {
+        return new WordChangeEvent(Type.RELOADED, 0, allWords.size() - 1, allWords, null, allWords.getVersion());
+    }
+
+    WordChangeEvent withVersion(long newVersion) {
+        return new WordChangeEvent(type, firstIndex, lastIndex, words, oldWord, newVersion);
+    }
+
+    public Type getType() { return type; }
+    public int getFirstIndex() { return firstIndex; }
+    public int getLastIndex() { return lastIndex; }
+    public List<Word> getWords() { return words; }
+    public Word getOldWord() { return oldWord; }
+    public long getVersion() { return version; }
+
+    @Override
+    public String toString() {
+        return type + " [" + firstIndex + ".." + lastIndex + "] " + words.size() + "개";
+    }
+}
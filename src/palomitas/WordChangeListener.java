@@ -0,0 +1,8 @@
+package palomitas;
+
+// 단어장(WordManager)이 바뀔 때 알림을 받는 리스너
+// 변경을 일으킨 스레드에서, 단어장이 잠긴 상태로 변경 순서대로 호출됩니다.
+// 화면을 고치는 리스너는 SwingUtilities.invokeLater로 EDT에 넘기고 바로 반환해야 합니다.
+public interface WordChangeListener {
+    void wordsChanged(WordChangeEvent event);
+}
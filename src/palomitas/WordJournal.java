@@ -0,0 +1,169 @@
+package palomitas;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+// 단어장 스냅샷(words.csv) 옆에 추가/수정/삭제 기록만 이어 붙이는 변경 저널
+// 레코드 형식: [1바이트 종류][writeUTF 필드들...] - 추가(A): 스페인어, 한국어, 예문 / 수정(U): 기존 스페인어 + 추가와 같은 필드 / 삭제(D): 스페인어
+public class WordJournal {
+    private static final byte OP_ADD = 'A';
+    private static final byte OP_UPDATE = 'U';
+    private static final byte OP_DELETE = 'D';
+
+    // 저널을 다시 적용할 때 호출되는 콜백 (WordManager가 저장 없이 메모리에만 반영)
+    public interface Replayer {
+        void add(Word word);
+        void update(String oldSpanish, Word newWord);
+        void delete(String spanish);
+    }
+
+    private final Path journalPath;
+    private final Path rotatedPath; // 압축(compaction) 중인 이전 저널
+    private DataOutputStream out;
+    private int recordCount;
+    private boolean damaged; // 적용 중 잘린/알 수 없는 레코드를 만났는지 여부
+
+    public WordJournal(String snapshotFilePath) {
+        this.journalPath = Paths.get(snapshotFilePath + ".journal");
+        this.rotatedPath = Paths.get(snapshotFilePath + ".journal.old");
+    }
+
+    // 디스크에 이전 또는 현재 저널이 남아 있는지
+    public boolean exists() {
+        return Files.exists(journalPath) || Files.exists(rotatedPath);
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    // 압축 도중 종료되어 이전 저널이 남았거나 끝이 잘린 저널이 있으면, 로드 직후 스냅샷으로 다시 정리해야 합니다.
+    // (잘린 레코드 뒤에 새 기록을 이어 붙이면 그 뒤의 기록까지 읽을 수 없게 되기 때문)
+    public boolean needsCompaction() {
+        return damaged || Files.exists(rotatedPath);
+    }
+
+    public void appendAdd(Word word) throws IOException {
+        DataOutputStream os = openForAppend();
+        os.writeByte(OP_ADD);
+        writeWord(os, word);
+        finishRecord(os);
+    }
+
+    public void appendUpdate(String oldSpanish, Word newWord) throws IOException {
+        DataOutputStream os = openForAppend();
+        os.writeByte(OP_UPDATE);
+        os.writeUTF(oldSpanish);
+        writeWord(os, newWord);
+        finishRecord(os);
+    }
+
+    public void appendDelete(String spanish) throws IOException {
+        DataOutputStream os = openForAppend();
+        os.writeByte(OP_DELETE);
+        os.writeUTF(spanish);
+        finishRecord(os);
+    }
+
+    // 이전 저널(있다면)과 현재 저널을 순서대로 적용하고, 적용한 레코드 수를 반환
+    public int replay(Replayer replayer) {
+        damaged = false;
+        int replayed = replayFile(rotatedPath, replayer) + replayFile(journalPath, replayer);
+        recordCount = replayed;
+        return replayed;
+    }
+
+    // 현재 저널을 이전 저널로 돌려 놓고 새 저널에 기록을 시작합니다.
+    // 돌려 놓은 저널은 새 스냅샷이 완전히 기록된 뒤 deleteRotated()로 지웁니다.
+    public void rotate() throws IOException {
+        close();
+        if (Files.exists(journalPath)) {
+            Files.move(journalPath, rotatedPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        recordCount = 0;
+    }
+
+    public void deleteRotated() throws IOException {
+        Files.deleteIfExists(rotatedPath);
+    }
+
+    // 스냅샷 전체를 새로 저장한 뒤 호출: 이전/현재 저널을 모두 비웁니다.
+    public void reset() throws IOException {
+        close();
+        Files.deleteIfExists(journalPath);
+        Files.deleteIfExists(rotatedPath);
+        recordCount = 0;
+    }
+
+    public void close() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                System.err.println("저널 파일 닫기 중 오류 발생: " + e.getMessage());
+            }
+            out = null;
+        }
+    }
+
+    private DataOutputStream openForAppend() throws IOException {
+        if (out == null) {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(journalPath.toFile(), true)));
+        }
+        return out;
+    }
+
+    private void finishRecord(DataOutputStream os) throws IOException {
+        os.flush(); // 레코드 단위로 파일에 내려 보냄
+        recordCount++;
+    }
+
+    private static void writeWord(DataOutputStream os, Word word) throws IOException {
+        os.writeUTF(word.getSpanish());
+        os.writeUTF(word.getKorean());
+        os.writeUTF(word.getExample());
+    }
+
+    private static Word readWord(DataInputStream in) throws IOException {
+        String spanish = in.readUTF();
+        String korean = in.readUTF();
+        String example = in.readUTF();
+        return new Word(spanish, korean, example);
+    }
+
+    private int replayFile(Path path, Replayer replayer) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path.toFile())))) {
+            while (true) {
+                int op = in.read();
+                if (op < 0) break; // 정상적인 파일 끝
+                if (op == OP_ADD) {
+                    replayer.add(readWord(in));
+                } else if (op == OP_UPDATE) {
+                    String oldSpanish = in.readUTF();
+                    replayer.update(oldSpanish, readWord(in));
+                } else if (op == OP_DELETE) {
+                    replayer.delete(in.readUTF());
+                } else {
+                    System.err.println("저널 파일에 알 수 없는 레코드가 있어 이후 내용을 무시합니다: " + path);
+                    damaged = true;
+                    break;
+                }
+                count++;
+            }
+        } catch (EOFException e) {
+            // 기록 도중 종료되어 마지막 레코드가 잘린 경우: 완전한 레코드까지만 적용
+            System.err.println("저널 파일 끝의 불완전한 레코드를 무시합니다: " + path);
+            damaged = true;
+        } catch (IOException e) {
+            System.err.println("저널 파일 적용 중 오류 발생: " + e.getMessage());
+        }
+        return count;
+    }
+}
@@ -5,18 +5,114 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors; // 이 줄이 있는지 확인해주세요!
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+// 단어장 저장소. 여러 스레드(화면, 가져오기/저장 작업, 파일 감시)에서 동시에 써도 됩니다.
+//
+// 동시성 보장:
+// - 단어장 상태(store, version)는 읽기/쓰기 잠금으로 보호합니다. 조회(getAllWords, containsWord, getWord)는
+//   읽기 잠금만 잡으므로 서로를 막지 않고, 변경(추가/삭제/수정/불러오기/가져오기 합치기)은 쓰기 잠금을 잡아 하나씩 실행됩니다.
+// - 변경 하나는 원자적입니다. 조회는 변경 전이나 후의 모습만 보고, 중간 상태는 보지 않습니다.
+// - getAllWords()의 스냅샷은 한 version의 모습 그대로이며 이후 변경에 영향을 받지 않습니다.
+//   긴 작업(퀴즈, 검색, 내보내기)은 스냅샷을 받아 잠금 없이 읽으므로 쓰기 작업을 막지 않습니다.
+// - 변경 알림은 쓰기 잠금을 쥔 채 보내므로, 리스너는 version 순서대로 빠짐없이 받습니다.
+// - 파일 쓰기는 읽기 잠금(또는 잠금 없이 스냅샷)으로 하므로 저장 중에도 조회는 막히지 않습니다.
+//   잠금 순서는 항상 단어장 잠금 -> fileLock 입니다. (fileLock을 쥔 채 단어장 잠금을 잡지 않습니다)
 public class WordManager {
-    private List<Word> wordList;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+
+    // 단어 보관소: 기본은 힙의 Word 목록 + 스페인어 색인, 압축 모드에서는 힙 밖의 압축 레코드
+    private WordStore store;
+    private List<Word> wordList; // store를 순서대로 읽는 읽기 전용 목록
+    // 단어장이 바뀔 때마다 1씩 늘어나는 번호와, 마지막으로 만든 스냅샷 (번호가 같으면 그대로 돌려줍니다)
+    private long version;
+    private volatile WordSnapshot currentSnapshot; // 읽기 잠금만 쥔 여러 스레드가 함께 갱신할 수 있음
     private static final String DEFAULT_FILE_NAME = "words.csv"; // 기본 파일 이름
     private String filePath; // 파일 경로
 
+    private static WordManager sharedInstance; // getInstance()로 모든 창이 함께 쓰는 단어장
+    private final List<WordChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    // 저널 모드: 편집할 때마다 파일 전체를 다시 쓰지 않고 words.csv.journal에 변경 기록만 덧붙입니다.
+    // -Dpalomitas.journal=true 로 기본 생성자에서도 켤 수 있습니다.
+    private static final boolean DEFAULT_JOURNAL_MODE = Boolean.getBoolean("palomitas.journal");
+    private static final int JOURNAL_COMPACT_THRESHOLD = 1000; // 이 개수를 넘으면 백그라운드에서 스냅샷으로 압축
+    private WordJournal journal; // 저널 모드가 아니면 null
+    private volatile Future<?> pendingCompaction; // 쓰기 잠금을 쥐고 바꿈
+    private final Object fileLock = new Object(); // 스냅샷 파일 쓰기는 한 번에 하나씩
+
+    // 편집 후 저장은 백그라운드 스레드에서 모아서 처리합니다. (EDT가 파일 쓰기를 기다리지 않도록)
+    private static final long SAVE_DELAY_MILLIS = 300;
+    private SaveScheduler saveScheduler; // 처음 필요할 때 생성 (saveScheduler와 fileWatcher는 this로 동기화)
+    private Thread saveOnExitHook; // 종료 시 저장 (this로 동기화)
+
+    // 시작 시 CSV 대신 읽는 이진 스냅샷(words.csv.bin). -Dpalomitas.binarySnapshot=false 로 끌 수 있습니다.
+    private static final boolean BINARY_SNAPSHOT_ENABLED = !"false".equals(System.getProperty("palomitas.binarySnapshot"));
+
+    // 압축 저장 모드: 수백만 단어 규모에서 힙 사용량을 줄이기 위해 단어를 힙 밖에 보관합니다.
+    // -Dpalomitas.packedStorage=true 로 기본 생성자에서도 켤 수 있습니다.
+    private static final boolean DEFAULT_PACKED_STORAGE = Boolean.getBoolean("palomitas.packedStorage");
+
+    // 로드/가져오기 중 같은 뜻/예문 문자열을 합칠 때 기억하는 최대 개수
+    private static final int STRING_POOL_MAX_ENTRIES = 100_000;
+
+    // 이 크기 이상인 CSV는 메모리 매핑 후 여러 코어에서 나눠 파싱합니다.
+    private static final long PARALLEL_IMPORT_MIN_BYTES = 4L * 1024 * 1024;
+
+    // 바깥에서 바뀐 파일을 반영할 때 바뀐 단어가 이보다 많으면, 단어마다 지우고 고치지 않고(각각 O(N)) 보관소를 한 번에
+    // 다시 채운 뒤 RELOADED 알림 하나만 보냅니다.
+    private static final int FILE_DIFF_EVENT_LIMIT = 64;
+
+    // 가져오기/내보내기 진행 상황을 알리고 취소를 확인하는 간격(행), 가져오기에서 파싱이 차지하는 비율, 합치기 묶음 크기
+    static final int PROGRESS_INTERVAL_ROWS = 10_000;
+    private static final int IMPORT_PARSE_PERCENT = 80;
+    private static final int IMPORT_BATCH_SIZE = 20_000;
+    private static final TaskProgress NO_PROGRESS = new TaskProgress() {
+        @Override
+        public void update(long rows, int percent) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    // 공유 단어장은 words.csv가 바깥(동기화 프로그램 등)에서 바뀌면 바뀐 부분만 다시 반영합니다.
+    // -Dpalomitas.watchFile=false 로 끌 수 있습니다.
+    private static final boolean WATCH_FILE_ENABLED = !"false".equals(System.getProperty("palomitas.watchFile"));
+    private DeckFileWatcher fileWatcher; // 지켜보지 않으면 null
+    // 처음 필요할 때 생성. 만들면서 단어장 읽기 잠금을 잡으므로 this가 아닌 별도 잠금을 씁니다.
+    // (쓰기 잠금을 쥔 채 this를 잡는 getSaveScheduler와 순서가 엇갈리지 않도록)
+    private volatile WordTermIndex termIndex;
+    private final Object termIndexLock = new Object();
+    private volatile ReviewScheduler reviewScheduler; // 복습 일정도 같은 이유로 termIndexLock으로 만듭니다.
+    // 복습 기록은 파일을 끝까지 훑으므로 접두사 트리를 만드는 동안 기다리지 않도록 따로 잠급니다.
+    private final Object reviewLogLock = new Object();
+    private volatile ReviewLog reviewLog;
+    private volatile boolean reviewLogUnavailable; // 한 번 열지 못했으면 퀴즈마다 다시 시도하지 않음
+    // 마지막으로 읽거나 쓴 words.csv의 크기/수정 시각. 같으면 바깥에서 바뀐 것이 아닙니다. (fileLock으로 보호)
+    private String knownFileStamp;
+
     public WordManager() {
-        this.wordList = new ArrayList<>();
+        initStore(DEFAULT_PACKED_STORAGE);
         // 이클립스에서는 프로젝트 루트에 resources 폴더를 만들고 그 안에 저장됩니다.
         Path resourceDir = Paths.get("resources");
         try {
@@ -26,32 +122,280 @@ public class WordManager {
             }
             this.filePath = resourceDir.resolve(DEFAULT_FILE_NAME).toString();
             System.out.println("단어 파일 경로: " + this.filePath);
+            initJournal(DEFAULT_JOURNAL_MODE);
             loadWordsFromFile();
         } catch (IOException e) {
             System.err.println("'resources' 디렉토리 생성 또는 파일 경로 설정 오류: " + e.getMessage());
             // 대체 경로로 프로젝트 루트에 바로 저장
             this.filePath = DEFAULT_FILE_NAME;
             System.out.println("대체 단어 파일 경로: " + this.filePath);
+            initJournal(DEFAULT_JOURNAL_MODE);
             loadWordsFromFile();
         }
     }
 
     public WordManager(String customFilePath) {
-        this.wordList = new ArrayList<>();
+        this(customFilePath, DEFAULT_JOURNAL_MODE);
+    }
+
+    public WordManager(String customFilePath, boolean journalMode) {
+        this(customFilePath, journalMode, DEFAULT_PACKED_STORAGE);
+    }
+
+    public WordManager(String customFilePath, boolean journalMode, boolean packedStorage) {
+        initStore(packedStorage);
         this.filePath = customFilePath;
+        initJournal(journalMode);
         loadWordsFromFile();
     }
 
-    public List<Word> getAllWords() {
-        return new ArrayList<>(wordList); // 외부에서 리스트를 직접 수정하지 못하도록 복사본 반환
+    private void initStore(boolean packedStorage) {
+        this.store = packedStorage ? new PackedWordStore() : new HeapWordStore();
+        this.wordList = store.asList();
+    }
+
+    public boolean isPackedStorage() {
+        return store instanceof PackedWordStore;
+    }
+
+    private void initJournal(boolean journalMode) {
+        this.journal = journalMode ? new WordJournal(filePath) : null;
+    }
+
+    public boolean isJournalMode() {
+        return journal != null;
+    }
+
+    // 지금 단어장의 읽기 전용 스냅샷. 마지막 변경 이후 처음 부를 때만 복사하고, 그 뒤로는 같은 객체를 돌려줍니다.
+    // 스냅샷은 이후의 변경에 영향을 받지 않으므로 잠금 없이 얼마든지 오래 읽어도 됩니다.
+    public WordSnapshot getAllWords() {
+        readLock.lock();
+        try {
+            WordSnapshot snapshot = currentSnapshot;
+            if (snapshot == null || snapshot.getVersion() != version) {
+                // 여러 읽기 스레드가 동시에 만들어도 같은 version의 같은 내용이므로 어느 것이 남아도 됩니다.
+                snapshot = new WordSnapshot(version, store.snapshot());
+                currentSnapshot = snapshot;
+            }
+            return snapshot;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public long getVersion() {
+        readLock.lock();
+        try {
+            return version;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // 색인 키: equalsIgnoreCase 비교와 같은 결과가 나오도록 소문자로 접은 스페인어 단어
+    static String toKey(String spanish) {
+        return spanish == null ? "" : spanish.toLowerCase(Locale.ROOT);
+    }
+
+    public boolean containsWord(String spanish) {
+        readLock.lock();
+        try {
+            return store.find(spanish) != null;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public Word getWord(String spanish) {
+        readLock.lock();
+        try {
+            return store.find(spanish);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // 중복이 아니면 보관소에 추가 (저장은 호출하는 쪽에서)
+    private boolean addIfAbsent(Word word) {
+        if (!store.add(word)) {
+            return false;
+        }
+        version++;
+        return true;
+    }
+
+    // 삭제한 위치, 없으면 -1
+    private int removeInternal(String spanishWord) {
+        int index = store.remove(spanishWord);
+        if (index >= 0) {
+            version++;
+        }
+        return index;
+    }
+
+    private void clearStore() {
+        store.clear();
+        version++;
+    }
+
+    // 수정한 위치, 없거나 중복이면 -1
+    private int updateInternal(String oldSpanish, Word newWord) {
+        if (store.find(oldSpanish) == null) {
+            return -1;
+        }
+        // 새 스페인어 단어가 기존 다른 단어와 중복되는지 확인 (자기 자신은 제외)
+        Word other = store.find(newWord.getSpanish());
+        if (other != null && !toKey(other.getSpanish()).equals(toKey(oldSpanish))) {
+            System.out.println("수정하려는 스페인어 단어 '" + newWord.getSpanish() + "'가 이미 다른 단어로 존재합니다. (수정 안됨)");
+            // JOptionPane.showMessageDialog(null, "수정하려는 스페인어 단어가 이미 다른 단어로 존재합니다.", "중복 오류", JOptionPane.WARNING_MESSAGE);
+            return -1; // 중복이면 수정하지 않음
+        }
+        int index = store.replace(oldSpanish, newWord);
+        if (index >= 0) {
+            version++;
+        }
+        return index;
+    }
+
+    // ---- 공유 단어장과 변경 알림 ----
+
+    // 모든 창이 함께 쓰는 기본 단어장 (resources/words.csv). 처음 호출할 때 한 번만 읽습니다.
+    public static synchronized WordManager getInstance() {
+        if (sharedInstance == null) {
+            sharedInstance = new WordManager();
+            if (WATCH_FILE_ENABLED) {
+                sharedInstance.startWatchingFile();
+            }
+            // 복습 일정과 복습 기록은 퀴즈를 시작할 때 EDT에서 읽지 않도록 미리 엽니다.
+            WordManager manager = sharedInstance;
+            Thread reviewOpener = new Thread(() -> {
+                manager.getReviewScheduler();
+                manager.getReviewLog();
+            }, "palomitas-review-open");
+            reviewOpener.setDaemon(true);
+            reviewOpener.start();
+        }
+        return sharedInstance;
+    }
+
+    // 리스너를 등록하고 등록 시점의 스냅샷을 돌려줍니다. 리스너는 정확히 이 스냅샷 다음 변경부터 알림을 받습니다.
+    public WordSnapshot addWordChangeListener(WordChangeListener listener) {
+        readLock.lock(); // 변경(쓰기 잠금)이 스냅샷과 등록 사이에 끼어들지 않도록
+        try {
+            listeners.add(listener);
+            return getAllWords();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void removeWordChangeListener(WordChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    // 자동 완성/중복 확인용 접두사 트리. 처음 부를 때 한 번 만들고, 그 뒤로는 변경 알림으로 바뀐 단어만 반영합니다.
+    public WordTermIndex getTermIndex() {
+        WordTermIndex index = termIndex;
+        if (index == null) {
+            synchronized (termIndexLock) {
+                index = termIndex;
+                if (index == null) {
+                    index = new WordTermIndex(this);
+                    termIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    // 이미 만들어 둔 접두사 트리, 아직 없으면 null (기다리지 않음. EDT에서 쓰기 위해)
+    public WordTermIndex getTermIndexIfBuilt() {
+        return termIndex;
+    }
+
+    // 간격 반복 복습 일정 (words.csv.reviews). 처음 부를 때 파일에서 읽습니다.
+    public ReviewScheduler getReviewScheduler() {
+        ReviewScheduler scheduler = reviewScheduler;
+        if (scheduler == null) {
+            synchronized (termIndexLock) {
+                scheduler = reviewScheduler;
+                if (scheduler == null) {
+                    scheduler = new ReviewScheduler(this, filePath);
+                    reviewScheduler = scheduler;
+                }
+            }
+            registerSaveOnExit();
+        }
+        return scheduler;
+    }
+
+    // 채점한 답을 모두 이어 붙이는 복습 기록 (words.csv.reviewlog). 파일을 열 수 없으면 null
+    public ReviewLog getReviewLog() {
+        ReviewLog log = reviewLog;
+        if (log == null && !reviewLogUnavailable) {
+            synchronized (reviewLogLock) {
+                log = reviewLog;
+                if (log == null && !reviewLogUnavailable) {
+                    try {
+                        log = new ReviewLog(filePath);
+                        reviewLog = log;
+                    } catch (IOException e) {
+                        reviewLogUnavailable = true;
+                        System.err.println("복습 기록 파일을 열 수 없어 이번 실행에서는 기록하지 않습니다: " + e.getMessage());
+                    }
+                }
+            }
+            if (log != null) {
+                registerSaveOnExit();
+            }
+        }
+        return log;
+    }
+
+    // 이미 연 복습 기록, 아직 열지 않았거나 열 수 없으면 null (기다리지 않음. EDT에서 쓰기 위해)
+    public ReviewLog getReviewLogIfOpen() {
+        return reviewLog;
+    }
+
+    // 변경을 일으킨 메소드 안에서(쓰기 잠금을 쥔 채) 호출하므로, 리스너는 변경이 일어난 순서대로 알림을 받습니다.
+    private void fireWordsChanged(WordChangeEvent event) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        event = event.withVersion(version);
+        for (WordChangeListener listener : listeners) {
+            try {
+                listener.wordsChanged(event);
+            } catch (RuntimeException e) {
+                System.err.println("단어장 변경 알림 처리 중 오류 발생: " + e);
+            }
+        }
     }
 
     public void addWord(Word word) {
-        boolean isDuplicate = wordList.stream()
-                                      .anyMatch(w -> w.getSpanish().equalsIgnoreCase(word.getSpanish()));
-        if (!isDuplicate) {
-            wordList.add(word);
-            saveWordsToFile();
+        writeLock.lock();
+        try {
+            addWordLocked(word);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void addWordLocked(Word word) {
+        if (addIfAbsent(word)) {
+            fireWordsChanged(WordChangeEvent.added(store.size() - 1, Collections.singletonList(word)));
+            if (journal != null) {
+                try {
+                    journal.appendAdd(word);
+                } catch (IOException e) {
+                    System.err.println("저널에 단어 추가 기록 중 오류 발생: " + e.getMessage());
+                    saveWordsToFile(); // 저널에 못 남겼으면 전체 저장으로 대신합니다.
+                    return;
+                }
+                compactJournalIfNeeded();
+            } else {
+                scheduleSave();
+            }
         } else {
             System.out.println("중복된 단어입니다 (추가 안됨): " + word.getSpanish());
             // GUI에서는 사용자에게 알림창을 띄워주는 것이 좋습니다.
@@ -60,81 +404,582 @@ public class WordManager {
     }
 
     public boolean removeWord(String spanishWord) {
-        Optional<Word> wordToRemove = wordList.stream()
-                .filter(word -> word.getSpanish().equalsIgnoreCase(spanishWord))
-                .findFirst();
+        writeLock.lock();
+        try {
+            return removeWordLocked(spanishWord);
+        } finally {
+            writeLock.unlock();
+        }
+    }
 
-        if (wordToRemove.isPresent()) {
-            wordList.remove(wordToRemove.get());
-            saveWordsToFile();
-            return true;
+    private boolean removeWordLocked(String spanishWord) {
+        Word removed = store.find(spanishWord);
+        int index = removeInternal(spanishWord);
+        if (index < 0) {
+            return false;
         }
-        return false;
+        fireWordsChanged(WordChangeEvent.removed(index, removed));
+        if (journal != null) {
+            try {
+                journal.appendDelete(spanishWord);
+                compactJournalIfNeeded();
+            } catch (IOException e) {
+                System.err.println("저널에 단어 삭제 기록 중 오류 발생: " + e.getMessage());
+                saveWordsToFile();
+            }
+        } else {
+            scheduleSave();
+        }
+        return true;
     }
 
     public void updateWord(String oldSpanish, Word newWord) {
-        for (int i = 0; i < wordList.size(); i++) {
-            if (wordList.get(i).getSpanish().equalsIgnoreCase(oldSpanish)) {
-                // 새 스페인어 단어가 기존 다른 단어와 중복되는지 확인 (자기 자신은 제외)
-                final int currentIndex = i;
-                boolean isDuplicateWithOther = wordList.stream()
-                    .filter(w -> !w.getSpanish().equalsIgnoreCase(oldSpanish)) // 자기 자신 제외
-                    .anyMatch(w -> w.getSpanish().equalsIgnoreCase(newWord.getSpanish()));
-
-                if (newWord.getSpanish().equalsIgnoreCase(oldSpanish) || !isDuplicateWithOther) {
-                    wordList.set(i, newWord);
-                    saveWordsToFile();
-                    return;
-                } else {
-                    System.out.println("수정하려는 스페인어 단어 '" + newWord.getSpanish() + "'가 이미 다른 단어로 존재합니다. (수정 안됨)");
-                    // JOptionPane.showMessageDialog(null, "수정하려는 스페인어 단어가 이미 다른 단어로 존재합니다.", "중복 오류", JOptionPane.WARNING_MESSAGE);
-                    return; // 중복이면 수정하지 않음
+        writeLock.lock();
+        try {
+            updateWordLocked(oldSpanish, newWord);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void updateWordLocked(String oldSpanish, Word newWord) {
+        Word oldWord = store.find(oldSpanish);
+        int index = updateInternal(oldSpanish, newWord);
+        if (index < 0) {
+            return;
+        }
+        fireWordsChanged(WordChangeEvent.updated(index, oldWord, newWord));
+        if (journal != null) {
+            try {
+                journal.appendUpdate(oldSpanish, newWord);
+                compactJournalIfNeeded();
+            } catch (IOException e) {
+                System.err.println("저널에 단어 수정 기록 중 오류 발생: " + e.getMessage());
+                saveWordsToFile();
+            }
+        } else {
+            scheduleSave();
+        }
+    }
+
+    // 저널이 임계치를 넘으면 현재 저널을 돌려 놓고, 그 시점의 단어 목록을 백그라운드에서 스냅샷으로 기록합니다.
+    // 그 사이의 편집은 새 저널에 쌓이므로 스냅샷이 끝나기 전에 종료되어도 두 저널을 순서대로 적용하면 복구됩니다.
+    private void compactJournalIfNeeded() {
+        if (journal.getRecordCount() < JOURNAL_COMPACT_THRESHOLD) {
+            return;
+        }
+        if (pendingCompaction != null && !pendingCompaction.isDone()) {
+            return; // 이전 압축이 아직 진행 중
+        }
+        final List<Word> snapshot = getAllWords();
+        try {
+            journal.rotate();
+        } catch (IOException e) {
+            System.err.println("저널 압축 준비 중 오류 발생: " + e.getMessage());
+            return;
+        }
+        pendingCompaction = getSaveScheduler().submit(() -> {
+            try {
+                synchronized (fileLock) {
+                    writeDeckFiles(snapshot);
+                }
+                journal.deleteRotated();
+                System.out.println("저널을 스냅샷으로 압축했습니다. (" + snapshot.size() + "개 단어)");
+            } catch (IOException e) {
+                System.err.println("저널 압축 중 오류 발생: " + e.getMessage());
+            }
+        });
+    }
+
+    private synchronized SaveScheduler getSaveScheduler() {
+        if (saveScheduler == null) {
+            saveScheduler = new SaveScheduler("palomitas-save", this::saveInBackground, SAVE_DELAY_MILLIS);
+            registerSaveOnExit();
+        }
+        return saveScheduler;
+    }
+
+    // 창을 닫거나 System.exit()로 종료될 때 아직 쓰지 않은 변경 사항(단어장, 복습 일정, 복습 기록)을 저장합니다.
+    // 백그라운드로 저장하는 것이 처음 생길 때 한 번 등록합니다. (단어장은 편집하지 않고 퀴즈만 푼 경우에도)
+    private synchronized void registerSaveOnExit() {
+        if (saveOnExitHook == null) {
+            saveOnExitHook = new Thread(this::flush, "palomitas-save-on-exit");
+            Runtime.getRuntime().addShutdownHook(saveOnExitHook);
+        }
+    }
+
+    // 편집 직후 호출: 실제 저장은 잠시 뒤 백그라운드에서 한 번에 처리됩니다.
+    private void scheduleSave() {
+        getSaveScheduler().requestSave();
+    }
+
+    // 백그라운드 저장 스레드에서 실행: 스냅샷을 받아 파일 쓰기는 잠금 없이 진행합니다.
+    private void saveInBackground() {
+        List<Word> snapshot = getAllWords();
+        try {
+            synchronized (fileLock) {
+                writeDeckFiles(snapshot);
+            }
+        } catch (IOException e) {
+            System.err.println("파일에 단어 저장 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    // 예약된 저장과 진행 중인 저널 압축을 모두 마칠 때까지 기다립니다. (프로그램 종료 전에 호출)
+    public void flush() {
+        SaveScheduler scheduler;
+        synchronized (this) {
+            scheduler = saveScheduler;
+        }
+        if (scheduler != null) {
+            scheduler.flush();
+        }
+        ReviewScheduler reviews = reviewScheduler;
+        if (reviews != null) {
+            reviews.flush();
+        }
+        ReviewLog log = reviewLog;
+        if (log != null) {
+            log.sync();
+        }
+    }
+
+    // 다 쓴 단어장을 닫습니다: 남은 저장을 마치고 저장/감시/복습 기록 스레드를 멈춥니다.
+    // 단어장을 여러 개 열고 닫는 경우(벤치마크 등)에 스레드와 종료 훅이 쌓이지 않도록 합니다. 닫은 뒤에는 편집하지 마세요.
+    public void close() {
+        stopWatchingFile();
+        SaveScheduler scheduler;
+        Thread hook;
+        synchronized (this) {
+            scheduler = saveScheduler;
+            hook = saveOnExitHook;
+            saveScheduler = null;
+            saveOnExitHook = null;
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        if (hook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException e) {
+                // 이미 종료 중이면 훅이 flush를 하므로 그대로 둡니다.
+            }
+        }
+        if (journal != null) {
+            writeLock.lock(); // 저널 기록은 쓰기 잠금 안에서만 하므로
+            try {
+                journal.close();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        ReviewScheduler reviews = reviewScheduler;
+        if (reviews != null) {
+            reviews.close();
+        }
+        ReviewLog log = reviewLog;
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    // 진행 중인 백그라운드 압축이 있으면 끝날 때까지 기다립니다.
+    private void awaitCompaction() {
+        Future<?> compaction = pendingCompaction;
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("저널 압축 중 오류 발생: " + e.getCause());
+        }
+    }
+
+    // fileLock을 잡은 상태에서 호출: CSV를 쓰고, 켜져 있으면 다음 시작을 위한 이진 스냅샷도 함께 갱신합니다.
+    private void writeDeckFiles(List<Word> words) throws IOException {
+        Path csvPath = Paths.get(filePath);
+        writeCsvAtomically(csvPath, words);
+        knownFileStamp = fileStamp(csvPath); // 파일 감시가 우리 저장을 바깥 변경으로 보지 않도록
+        if (BINARY_SNAPSHOT_ENABLED) {
+            WordSnapshotFile.write(WordSnapshotFile.pathFor(filePath), csvPath, words);
+        }
+    }
+
+    // 임시 파일에 모두 쓴 다음 원래 파일과 바꿔치기하므로, 쓰는 도중 종료되어도 기존 스냅샷이 깨지지 않습니다.
+    static void writeCsvAtomically(Path target, List<Word> words) throws IOException {
+        writeCsvAtomically(target, words, NO_PROGRESS);
+    }
+
+    // progress가 취소되면 임시 파일을 지우고 CancellationException을 던집니다.
+    static void writeCsvAtomically(Path target, List<Word> words, TaskProgress progress) throws IOException {
+        Path tempFile = target.resolveSibling(target.getFileName() + ".tmp");
+        try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8))) {
+            int total = words.size();
+            for (int i = 0; i < total; i++) {
+                pw.println(words.get(i).toCsvString());
+                if ((i + 1) % PROGRESS_INTERVAL_ROWS == 0) {
+                    if (progress.isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    progress.update(i + 1, (int) (100L * (i + 1) / total));
                 }
             }
+            if (pw.checkError()) {
+                throw new IOException("임시 파일 쓰기 실패: " + tempFile);
+            }
+            progress.update(total, 100);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        try {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 원자적 이동을 지원하지 않는 파일 시스템이면 일반 교체로 대신합니다.
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
         }
     }
 
 
     public void loadWordsFromFile() {
+        writeLock.lock();
+        try {
+            long before = version;
+            loadWordsInternal();
+            if (version == before) {
+                return; // 파일이 없고 저널도 없어 바뀐 것이 없음 (같은 version으로 알리지 않도록)
+            }
+            fireWordsChanged(WordChangeEvent.reloaded(getAllWords()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void loadWordsInternal() {
         File file = new File(filePath);
+        // 읽기 전에 잡아 둔 크기/수정 시각: 읽는 도중 바깥에서 바뀌면 이 값으로 만든 이진 스냅샷은 낡은 것으로 남습니다.
+        BasicFileAttributes parsedAttributes = fileAttributes(file.toPath());
+        synchronized (fileLock) {
+            knownFileStamp = stampOf(parsedAttributes);
+        }
         if (!file.exists()) {
             System.out.println("'" + filePath + "' 파일이 존재하지 않습니다. (새로 사용 시 생성 예정)");
+            replayJournal(); // 스냅샷 없이 저널만 있는 경우
             return;
         }
 
-        wordList.clear();
-        try (BufferedReader br = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (!line.trim().isEmpty()) {
-                    Word word = Word.fromCsvString(line);
-                    if (word != null) {
-                        boolean isDuplicate = wordList.stream()
-                                .anyMatch(w -> w.getSpanish().equalsIgnoreCase(word.getSpanish()));
-                        if (!isDuplicate) {
-                            wordList.add(word);
-                        } else {
-                            System.out.println("파일 로드 중 중복된 단어 발견 (무시됨): " + word.getSpanish());
-                        }
+        clearStore();
+        StringPool pool = newLoadPool();
+        if (BINARY_SNAPSHOT_ENABLED) {
+            if (WordSnapshotFile.readIfFresh(WordSnapshotFile.pathFor(filePath), file.toPath(), pool, this::addIfAbsent)) {
+                reportPool(pool);
+                replayJournal();
+                return;
+            }
+            clearStore(); // 도중에 실패했다면 읽은 데까지 버리고 CSV에서 다시
+        }
+        try (CsvReader reader = new CsvReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            List<String> fields = new ArrayList<>(3);
+            while (reader.readRecord(fields)) {
+                pool.internFields(fields);
+                Word word = Word.fromCsvFields(fields);
+                if (word != null) {
+                    if (!addIfAbsent(word)) {
+                        System.out.println("파일 로드 중 중복된 단어 발견 (무시됨): " + word.getSpanish());
                     }
                 }
             }
         } catch (IOException e) {
             System.err.println("파일에서 단어 로드 중 오류 발생: " + e.getMessage());
         }
+        reportPool(pool);
+        if (BINARY_SNAPSHOT_ENABLED && parsedAttributes != null) {
+            rebuildBinarySnapshot(file.toPath(), parsedAttributes);
+        }
+        replayJournal();
+    }
+
+    // 로드/가져오기 한 번 동안 쓰는 문자열 풀. 압축 저장 모드에서는 문자열을 힙에 두지 않으므로 쓰지 않습니다.
+    private StringPool newLoadPool() {
+        return new StringPool(isPackedStorage() ? 0 : STRING_POOL_MAX_ENTRIES);
+    }
+
+    private static void reportPool(StringPool pool) {
+        if (pool.getReusedCount() > 0) {
+            System.out.println(pool.getStatistics());
+        }
+    }
+
+    // 이진 스냅샷이 없거나 낡았을 때: 방금 CSV에서 읽은 내용으로 백그라운드에서 다시 만듭니다.
+    // 스냅샷에는 쓰는 시점이 아니라 읽기 전의 CSV 크기/수정 시각을 기록하고, 그사이 CSV가 바뀌었으면 만들지 않습니다.
+    // (바뀐 CSV의 값을 기록하면 예전 내용이 최신으로 보여 다음 시작 때 그대로 읽히므로)
+    private void rebuildBinarySnapshot(Path csvPath, BasicFileAttributes parsedAttributes) {
+        final List<Word> snapshot = getAllWords();
+        getSaveScheduler().submit(() -> {
+            try {
+                synchronized (fileLock) {
+                    if (!stampOf(parsedAttributes).equals(fileStamp(csvPath))) {
+                        System.out.println("단어 파일이 그사이 바뀌어 이진 스냅샷을 만들지 않습니다.");
+                        return;
+                    }
+                    WordSnapshotFile.write(WordSnapshotFile.pathFor(filePath), parsedAttributes.size(),
+                            parsedAttributes.lastModifiedTime().toMillis(), snapshot);
+                }
+            } catch (IOException e) {
+                System.err.println("이진 스냅샷 생성 중 오류 발생: " + e.getMessage());
+            }
+        });
+    }
+
+    // 스냅샷 위에 저널에 남은 변경 사항을 순서대로 다시 적용 (저장 없이 메모리에만)
+    // 저널 모드가 아니어도 지난 실행(저널 모드)에서 남은 저널이 있으면 적용한 뒤 스냅샷에 합치고 지웁니다.
+    // (그냥 두면 압축 전의 편집을 잃고, 나중에 저널 모드를 다시 켤 때 낡은 저널이 새 스냅샷 위에 적용됩니다)
+    private void replayJournal() {
+        WordJournal pending = journal != null ? journal : new WordJournal(filePath);
+        if (!pending.exists()) {
+            return;
+        }
+        int replayed = pending.replay(new WordJournal.Replayer() {
+            @Override
+            public void add(Word word) { addIfAbsent(word); }
+
+            @Override
+            public void update(String oldSpanish, Word newWord) { updateInternal(oldSpanish, newWord); }
+
+            @Override
+            public void delete(String spanish) { removeInternal(spanish); }
+        });
+        if (replayed > 0) {
+            System.out.println("저널에서 " + replayed + "개의 변경 기록을 적용했습니다.");
+        }
+        if (journal == null) {
+            saveWordsToFile();
+            try {
+                pending.reset();
+            } catch (IOException e) {
+                System.err.println("남은 저널 삭제 중 오류 발생: " + e.getMessage());
+            }
+        } else if (journal.needsCompaction()) {
+            saveWordsToFile(); // 지난 실행에서 남은 이전/손상 저널을 새 스냅샷으로 정리
+        }
+    }
+
+    // ---- 바깥에서 바뀐 words.csv 반영 ----
+
+    // words.csv를 지켜보기 시작합니다. 바깥에서 바뀌면 새 내용과 메모리의 단어장을 비교해 추가/삭제/수정만 적용합니다.
+    public synchronized void startWatchingFile() {
+        if (fileWatcher != null) {
+            return;
+        }
+        try {
+            fileWatcher = new DeckFileWatcher(Paths.get(filePath), this::reloadChangedFile);
+        } catch (IOException e) {
+            System.err.println("단어 파일 감시를 시작할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    public synchronized void stopWatchingFile() {
+        if (fileWatcher == null) {
+            return;
+        }
+        try {
+            fileWatcher.close();
+        } catch (IOException e) {
+            System.err.println("단어 파일 감시 종료 중 오류 발생: " + e.getMessage());
+        }
+        fileWatcher = null;
+    }
+
+    // 파일 감시 스레드에서 실행: 우리가 마지막으로 읽거나 쓴 파일과 다를 때만 다시 읽습니다.
+    // 파싱은 단어장을 잠그지 않고 하며, 그동안 우리 쪽 저장이 끼어들지 않도록 파일 잠금만 잡습니다.
+    private void reloadChangedFile() {
+        Path csvPath = Paths.get(filePath);
+        List<Word> fileWords;
+        BasicFileAttributes parsedAttributes = fileAttributes(csvPath);
+        synchronized (fileLock) {
+            String stamp = stampOf(parsedAttributes);
+            if (stamp == null || stamp.equals(knownFileStamp)) {
+                return; // 지워졌거나(옮겨지는 중) 우리가 쓴 그대로
+            }
+            StringPool pool = newLoadPool();
+            try {
+                if (Files.size(csvPath) >= PARALLEL_IMPORT_MIN_BYTES) {
+                    fileWords = new ArrayList<>();
+                    for (List<Word> chunk : ParallelCsvImporter.parse(csvPath, pool, NO_PROGRESS)) {
+                        fileWords.addAll(chunk);
+                    }
+                } else {
+                    fileWords = readCsvWords(csvPath.toFile(), pool, NO_PROGRESS);
+                }
+            } catch (IOException e) {
+                System.err.println("바뀐 단어 파일을 읽는 중 오류 발생: " + e.getMessage());
+                return;
+            }
+            knownFileStamp = stamp;
+        }
+        applyFileChanges(fileWords, parsedAttributes);
+    }
+
+    // 파일 내용을 기준으로 메모리의 단어장을 맞춥니다. (파일에 없는 단어 삭제, 내용이 다른 단어 수정, 새 단어 추가)
+    // 바뀐 단어가 적으면 단어마다 변경 알림을 보내므로, 화면은 전체를 다시 그리지 않고 바뀐 행만 고칩니다.
+    // 많으면(FILE_DIFF_EVENT_LIMIT 초과) 한 번에 다시 채우고 RELOADED 알림 하나만 보냅니다.
+    // 파일이 기준이므로 아직 저장되지 않은 편집이 있었다면 파일 내용으로 덮어씁니다.
+    private void applyFileChanges(List<Word> fileWords, BasicFileAttributes parsedAttributes) {
+        writeLock.lock();
+        try {
+            applyFileChangesLocked(fileWords, parsedAttributes);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void applyFileChangesLocked(List<Word> fileWords, BasicFileAttributes parsedAttributes) {
+        Map<String, Word> fileIndex = new LinkedHashMap<>();
+        for (Word word : fileWords) {
+            fileIndex.putIfAbsent(toKey(word.getSpanish()), word); // 파일 안의 중복은 먼저 나온 단어가 남습니다.
+        }
+
+        // 먼저 바뀐 단어만 셉니다. (보관소는 아직 건드리지 않음)
+        int removedCount = 0;
+        int updatedCount = 0;
+        Set<String> currentKeys = new HashSet<>();
+        int size = store.size();
+        for (int i = 0; i < size; i++) {
+            Word current = store.get(i);
+            String key = toKey(current.getSpanish());
+            currentKeys.add(key);
+            Word fromFile = fileIndex.get(key);
+            if (fromFile == null) {
+                removedCount++;
+            } else if (!sameContent(current, fromFile)) {
+                updatedCount++;
+            }
+        }
+        int addedCount = 0;
+        for (String key : fileIndex.keySet()) {
+            if (!currentKeys.contains(key)) {
+                addedCount++;
+            }
+        }
+        if (removedCount + updatedCount + addedCount == 0) {
+            return;
+        }
+
+        if (removedCount + updatedCount + addedCount > FILE_DIFF_EVENT_LIMIT) {
+            // 남는 단어는 지금 순서대로(내용은 파일 것으로), 새 단어는 파일 순서대로 뒤에. 단어마다 고칠 때와 같은 순서입니다.
+            List<Word> merged = new ArrayList<>(fileIndex.size());
+            for (int i = 0; i < size; i++) {
+                Word fromFile = fileIndex.get(toKey(store.get(i).getSpanish()));
+                if (fromFile != null) {
+                    merged.add(fromFile);
+                }
+            }
+            for (Map.Entry<String, Word> entry : fileIndex.entrySet()) {
+                if (!currentKeys.contains(entry.getKey())) {
+                    merged.add(entry.getValue());
+                }
+            }
+            clearStore();
+            for (Word word : merged) {
+                addIfAbsent(word);
+            }
+            fireWordsChanged(WordChangeEvent.reloaded(getAllWords()));
+        } else {
+            // 뒤에서부터 지워야 앞쪽 단어의 위치가 바뀌지 않아 알림의 위치가 그대로 맞습니다.
+            for (int i = store.size() - 1; i >= 0; i--) {
+                Word current = store.get(i);
+                Word fromFile = fileIndex.get(toKey(current.getSpanish()));
+                if (fromFile == null) {
+                    fireWordsChanged(WordChangeEvent.removed(removeInternal(current.getSpanish()), current));
+                } else if (!sameContent(current, fromFile)) {
+                    fireWordsChanged(WordChangeEvent.updated(updateInternal(current.getSpanish(), fromFile), current, fromFile));
+                }
+            }
+
+            int firstIndex = store.size();
+            List<Word> addedWords = new ArrayList<>();
+            for (Word word : fileIndex.values()) {
+                if (addIfAbsent(word)) {
+                    addedWords.add(word);
+                }
+            }
+            if (!addedWords.isEmpty()) {
+                fireWordsChanged(WordChangeEvent.added(firstIndex, addedWords));
+            }
+        }
+        System.out.println("바깥에서 바뀐 단어 파일을 반영했습니다. (추가 " + addedCount
+                + ", 삭제 " + removedCount + ", 수정 " + updatedCount + ")");
+
+        // 새 파일이 기준이 되었으므로 이전 파일 위에 쌓인 저널은 버리고, 이진 스냅샷은 새 파일에 맞춰 다시 만듭니다.
+        if (journal != null) {
+            awaitCompaction();
+            try {
+                journal.reset();
+            } catch (IOException e) {
+                System.err.println("저널 초기화 중 오류 발생: " + e.getMessage());
+            }
+        }
+        if (BINARY_SNAPSHOT_ENABLED) {
+            rebuildBinarySnapshot(Paths.get(filePath), parsedAttributes);
+        }
+    }
+
+    private static boolean sameContent(Word a, Word b) {
+        return a.getSpanish().equals(b.getSpanish())
+                && a.getKorean().equals(b.getKorean())
+                && a.getExample().equals(b.getExample());
     }
 
+    // 파일의 크기와 수정 시각 (없으면 null)
+    private static String fileStamp(Path path) {
+        return stampOf(fileAttributes(path));
+    }
+
+    private static String stampOf(BasicFileAttributes attributes) {
+        return attributes == null ? null : attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+    }
+
+    private static BasicFileAttributes fileAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 읽기 잠금으로 저장하므로 저장하는 동안 조회는 계속되고, 변경(과 저널 기록)만 기다립니다.
     public void saveWordsToFile() {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(filePath, StandardCharsets.UTF_8))) {
-            for (Word word : wordList) {
-                pw.println(word.toCsvString());
+        readLock.lock();
+        try {
+            if (journal != null) {
+                // 전체 스냅샷을 새로 쓰면 저널은 필요 없어집니다. 진행 중인 압축이 더 오래된 스냅샷으로 덮어쓰지 않도록 먼저 기다립니다.
+                awaitCompaction();
+            }
+            synchronized (fileLock) {
+                writeDeckFiles(wordList);
+                if (journal != null) {
+                    journal.reset();
+                }
             }
         } catch (IOException e) {
             System.err.println("파일에 단어 저장 중 오류 발생: " + e.getMessage());
+        } finally {
+            readLock.unlock();
         }
     }
 
     public List<String> importWordsFromCsv(String importFilePath) {
+        return importWordsFromCsv(importFilePath, NO_PROGRESS);
+    }
+
+    // 백그라운드 작업용: 파싱(0~80%)과 합치기(80~100%) 진행 상황을 progress로 알립니다.
+    // 합치기는 IMPORT_BATCH_SIZE개씩 나눠 쓰기 잠금을 잡으므로, 그 사이에 화면이 단어장을 읽고 추가된 행을 바로 보여줄 수 있습니다.
+    // 파싱 중에 취소하면 단어장은 그대로이고, 합치는 중에 취소하면 그때까지 합친 단어만 남겨 저장합니다.
+    public List<String> importWordsFromCsv(String importFilePath, TaskProgress progress) {
         List<String> importMessages = new ArrayList<>();
         File file = new File(importFilePath);
         if (!file.exists()) {
@@ -142,49 +987,186 @@ public class WordManager {
             return importMessages;
         }
 
+        // 파싱은 잠금 없이 먼저 끝내고, 단어장에 합치는 동안만 잠급니다.
+        List<List<Word>> parsedChunks;
+        StringPool pool = newLoadPool();
+        TaskProgress parseProgress = scaled(progress, 0, IMPORT_PARSE_PERCENT);
+        try {
+            if (file.length() >= PARALLEL_IMPORT_MIN_BYTES) {
+                parsedChunks = ParallelCsvImporter.parse(file.toPath(), pool, parseProgress);
+            } else {
+                parsedChunks = Collections.singletonList(readCsvWords(file, pool, parseProgress));
+            }
+        } catch (IOException e) {
+            importMessages.add("CSV 파일 가져오기 중 오류 발생: " + e.getMessage());
+            return importMessages;
+        } catch (CancellationException e) {
+            importMessages.add("가져오기를 취소했습니다. (단어장은 바뀌지 않았습니다)");
+            return importMessages;
+        }
+        reportPool(pool);
+
+        long parsedCount = 0;
+        for (List<Word> chunk : parsedChunks) {
+            parsedCount += chunk.size();
+        }
         int importedCount = 0;
         int duplicateCount = 0;
+        long mergedCount = 0;
+        boolean cancelled = false;
+        List<Word> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        merge:
+        for (List<Word> chunk : parsedChunks) { // 파일 순서대로 합치므로 먼저 나온 단어가 남습니다.
+            for (int i = 0; i < chunk.size(); i++) {
+                batch.add(chunk.get(i));
+                if (batch.size() < IMPORT_BATCH_SIZE) {
+                    continue;
+                }
+                if (progress.isCancelled()) {
+                    cancelled = true;
+                    break merge;
+                }
+                int added = mergeImportBatch(batch);
+                importedCount += added;
+                duplicateCount += batch.size() - added;
+                mergedCount += batch.size();
+                batch.clear();
+                progress.update(parsedCount, IMPORT_PARSE_PERCENT
+                        + (int) ((100 - IMPORT_PARSE_PERCENT) * mergedCount / parsedCount));
+            }
+        }
+        if (!cancelled && !batch.isEmpty()) {
+            int added = mergeImportBatch(batch);
+            importedCount += added;
+            duplicateCount += batch.size() - added;
+        }
+        if (importedCount > 0) { // 실제로 추가된 단어가 있을 때만 저장
+            saveWordsToFile();
+        }
+        progress.update(parsedCount, 100);
 
-        try (BufferedReader br = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (!line.trim().isEmpty()) {
-                    Word word = Word.fromCsvString(line);
-                    if (word != null) {
-                        boolean isDuplicate = wordList.stream()
-                                .anyMatch(w -> w.getSpanish().equalsIgnoreCase(word.getSpanish()));
-                        if (!isDuplicate) {
-                            wordList.add(word);
-                            importedCount++;
-                        } else {
-                            duplicateCount++;
-                        }
-                    }
+        if (cancelled) {
+            importMessages.add("가져오기를 취소했습니다.");
+        }
+        importMessages.add(importedCount + "개의 단어를 가져왔습니다.");
+        if (duplicateCount > 0) {
+            importMessages.add(duplicateCount + "개의 중복된 단어는 건너뛰었습니다.");
+        }
+        return importMessages;
+    }
+
+    // 한 묶음을 단어장에 합치고 추가된 단어 수를 반환합니다. 묶음마다 한 번의 ADDED 알림을 보냅니다.
+    private int mergeImportBatch(List<Word> batch) {
+        writeLock.lock();
+        try {
+            int firstIndex = store.size();
+            List<Word> addedWords = new ArrayList<>();
+            for (Word word : batch) {
+                if (addIfAbsent(word)) {
+                    addedWords.add(word);
                 }
             }
-            if (importedCount > 0) { // 실제로 추가된 단어가 있을 때만 저장
-                saveWordsToFile();
+            if (!addedWords.isEmpty()) {
+                fireWordsChanged(WordChangeEvent.added(firstIndex, addedWords));
             }
-            importMessages.add(importedCount + "개의 단어를 가져왔습니다.");
-            if (duplicateCount > 0) {
-                importMessages.add(duplicateCount + "개의 중복된 단어는 건너뛰었습니다.");
+            return addedWords.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 작은 파일은 한 스레드에서 순서대로 읽습니다.
+    private static List<Word> readCsvWords(File file, StringPool pool, TaskProgress progress) throws IOException {
+        List<Word> words = new ArrayList<>();
+        long totalBytes = Math.max(1, file.length());
+        CountingInputStream in = new CountingInputStream(new FileInputStream(file));
+        try (CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> fields = new ArrayList<>(3);
+            long rows = 0;
+            while (reader.readRecord(fields)) {
+                pool.internFields(fields);
+                Word word = Word.fromCsvFields(fields);
+                if (word != null) {
+                    words.add(word);
+                }
+                if (++rows % PROGRESS_INTERVAL_ROWS == 0) {
+                    if (progress.isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    progress.update(rows, (int) (100 * in.getCount() / totalBytes));
+                }
             }
+            progress.update(rows, 100);
+        }
+        return words;
+    }
 
-        } catch (IOException e) {
-            importMessages.add("CSV 파일 가져오기 중 오류 발생: " + e.getMessage());
+    // 읽은 바이트 수를 세는 스트림 (진행률 계산용)
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        long getCount() {
+            return count;
         }
-        return importMessages;
     }
 
-    public boolean exportWordsToCsv(String exportFilePath) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(exportFilePath, StandardCharsets.UTF_8))) {
-            for (Word word : wordList) {
-                pw.println(word.toCsvString());
+    // progress의 0~100%를 from~to% 구간으로 옮겨 전달합니다.
+    private static TaskProgress scaled(TaskProgress progress, int from, int to) {
+        return new TaskProgress() {
+            @Override
+            public void update(long rows, int percent) {
+                progress.update(rows, from + (to - from) * percent / 100);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return progress.isCancelled();
             }
+        };
+    }
+
+    public boolean exportWordsToCsv(String exportFilePath) {
+        return exportWordsToCsv(exportFilePath, NO_PROGRESS);
+    }
+
+    // 스냅샷을 받아 잠금 없이 씁니다. (내보내는 동안에도 편집할 수 있고, 파일에는 시작 시점의 단어장이 담깁니다)
+    // 임시 파일에 쓴 뒤 바꿔치기하므로, 취소하거나 실패하면 기존 파일은 그대로 남습니다.
+    public boolean exportWordsToCsv(String exportFilePath, TaskProgress progress) {
+        WordSnapshot snapshot = getAllWords();
+        try {
+            writeCsvAtomically(Paths.get(exportFilePath), snapshot, progress);
             return true;
         } catch (IOException e) {
             System.err.println("CSV 파일 내보내기 중 오류 발생: " + e.getMessage());
             return false;
+        } catch (CancellationException e) {
+            System.out.println("CSV 내보내기를 취소했습니다.");
+            return false;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package palomitas;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+
+// 단어장 검색용 트라이그램(연속된 세 글자) 색인. 한 version의 스냅샷에 대해 한 번 만들고, 만든 뒤에는 바뀌지 않습니다.
+// 행마다 세 필드를 소문자로 접어 이어 붙인 문자열을 갖고, 트라이그램마다 그 조각이 들어 있는 행 번호 목록을 갖습니다.
+// 검색어가 세 글자 이상이면 검색어의 트라이그램 중 가장 드문 것의 행 목록만 확인하고,
+// 두 글자 이하이면 접어 둔 문자열을 차례로 훑습니다. (정규식 없이 contains 한 번)
+// 입력 중에는 검색어가 앞의 검색어를 포함하며 길어지므로, 그럴 때는 앞의 결과 안에서만 다시 확인합니다.
+// 검색 결과는 기존 필터와 같게, 스페인어/뜻/예문 중 하나라도 검색어를 (대소문자 무시) 포함하는 행입니다.
+public class WordSearchIndex {
+    private static final char FIELD_SEPARATOR = '\u0000'; // 필드 경계를 넘는 일치를 막기 위한 구분자
+
+    private final long version;
+    private final String[] foldedRows;
+
+    // 트라이그램 -> 행 번호 목록 (열린 주소법, 빈 칸은 postings가 null)
+    private final long[] keys;
+    private final int[][] postings;
+    private final int[] postingSizes;
+
+    private volatile LastSearch lastSearch; // 직전 검색 (여러 검색 스레드가 함께 씀)
+
+    private static class LastSearch {
+        final String query;
+        final BitSet hits;
+
+        LastSearch(String query, BitSet hits) {
+            this.query = query;
+            this.hits = hits;
+        }
+    }
+
+    private WordSearchIndex(long version, String[] foldedRows, long[] keys, int[][] postings, int[] postingSizes) {
+        this.version = version;
+        this.foldedRows = foldedRows;
+        this.keys = keys;
+        this.postings = postings;
+        this.postingSizes = postingSizes;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public static String fold(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    public static boolean matches(Word word, String foldedQuery) {
+        return fold(word.getSpanish()).contains(foldedQuery)
+                || fold(word.getKorean()).contains(foldedQuery)
+                || fold(word.getExample()).contains(foldedQuery);
+    }
+
+    public static WordSearchIndex build(WordSnapshot words) {
+        int rowCount = words.size();
+        String[] foldedRows = new String[rowCount];
+        Builder builder = new Builder(Math.max(1024, rowCount));
+        for (int row = 0; row < rowCount; row++) {
+            Word word = words.get(row);
+            String folded = fold(word.getSpanish()) + FIELD_SEPARATOR + fold(word.getKorean())
+                    + FIELD_SEPARATOR + fold(word.getExample());
+            foldedRows[row] = folded;
+            for (int i = 0; i + 3 <= folded.length(); i++) {
+                long gram = trigram(folded, i);
+                if (gram >= 0) {
+                    builder.add(gram, row);
+                }
+            }
+        }
+        return new WordSearchIndex(words.getVersion(), foldedRows, builder.keys, builder.postings, builder.sizes);
+    }
+
+    // 검색어(이미 접은 것)를 포함하는 행 번호들
+    public BitSet search(String foldedQuery) {
+        BitSet hits = search(foldedQuery, lastSearch);
+        lastSearch = new LastSearch(foldedQuery, hits);
+        return hits;
+    }
+
+    private BitSet search(String foldedQuery, LastSearch last) {
+        BitSet hits = new BitSet(foldedRows.length);
+        // 앞의 검색어를 포함하는 검색어라면 앞의 결과가 후보가 됩니다.
+        BitSet previousHits = last != null && foldedQuery.contains(last.query) ? last.hits : null;
+        int previousCount = previousHits != null ? previousHits.cardinality() : Integer.MAX_VALUE;
+
+        // 검색어의 모든 트라이그램을 포함해야 하므로, 가장 짧은 행 목록만 후보로 삼아 직접 확인합니다.
+        int best = -1;
+        for (int i = 0; i + 3 <= foldedQuery.length(); i++) {
+            int slot = findSlot(trigram(foldedQuery, i));
+            if (postings[slot] == null) {
+                return hits; // 어느 행에도 없는 트라이그램
+            }
+            if (best < 0 || postingSizes[slot] < postingSizes[best]) {
+                best = slot;
+            }
+        }
+
+        if (best >= 0 && postingSizes[best] <= previousCount) {
+            int[] candidates = postings[best];
+            for (int i = 0; i < postingSizes[best]; i++) {
+                int row = candidates[i];
+                if (foldedRows[row].contains(foldedQuery)) {
+                    hits.set(row);
+                }
+            }
+        } else if (previousHits != null) {
+            for (int row = previousHits.nextSetBit(0); row >= 0; row = previousHits.nextSetBit(row + 1)) {
+                if (foldedRows[row].contains(foldedQuery)) {
+                    hits.set(row);
+                }
+            }
+        } else {
+            for (int row = 0; row < foldedRows.length; row++) {
+                if (foldedRows[row].contains(foldedQuery)) {
+                    hits.set(row);
+                }
+            }
+        }
+        return hits;
+    }
+
+    // 세 글자를 48비트로 묶습니다. 구분자가 들어간 조각은 검색어에 나올 수 없으므로 -1로 건너뜁니다.
+    private static long trigram(String text, int start) {
+        char a = text.charAt(start);
+        char b = text.charAt(start + 1);
+        char c = text.charAt(start + 2);
+        if (a == FIELD_SEPARATOR || b == FIELD_SEPARATOR || c == FIELD_SEPARATOR) {
+            return -1;
+        }
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private int findSlot(long gram) {
+        int mask = keys.length - 1;
+        int i = hash(gram) & mask;
+        while (postings[i] != null && keys[i] != gram) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private static int hash(long gram) {
+        long h = gram * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // 색인을 만드는 동안만 쓰는 가변 테이블
+    private static class Builder {
+        long[] keys;
+        int[][] postings;
+        int[] sizes;
+        int used;
+
+        Builder(int expected) {
+            int capacity = Integer.highestOneBit(expected) * 2;
+            keys = new long[capacity];
+            postings = new int[capacity][];
+            sizes = new int[capacity];
+        }
+
+        void add(long gram, int row) {
+            int mask = keys.length - 1;
+            int i = hash(gram) & mask;
+            while (postings[i] != null && keys[i] != gram) {
+                i = (i + 1) & mask;
+            }
+            if (postings[i] == null) {
+                keys[i] = gram;
+                postings[i] = new int[4];
+                if (++used * 2 > keys.length) {
+                    grow();
+                    add(gram, row);
+                    return;
+                }
+            }
+            int size = sizes[i];
+            if (size > 0 && postings[i][size - 1] == row) {
+                return; // 같은 행에 같은 트라이그램이 여러 번 나온 경우
+            }
+            if (size == postings[i].length) {
+                postings[i] = Arrays.copyOf(postings[i], size * 2);
+            }
+            postings[i][size] = row;
+            sizes[i] = size + 1;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[][] oldPostings = postings;
+            int[] oldSizes = sizes;
+            keys = new long[oldKeys.length * 2];
+            postings = new int[oldKeys.length * 2][];
+            sizes = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldPostings[j] == null) continue;
+                int i = hash(oldKeys[j]) & mask;
+                while (postings[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                postings[i] = oldPostings[j];
+                sizes[i] = oldSizes[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package palomitas;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+// getAllWords()가 돌려주는 단어장의 한 시점 모습. 만든 뒤에는 바뀌지 않으며 수정하려고 하면 예외가 납니다.
+// 단어장이 바뀌지 않는 동안에는 모든 호출자가 같은 스냅샷을 함께 쓰고, 바뀐 뒤 처음 요청할 때 한 번만 새로 만듭니다.
+// version은 단어장이 바뀔 때마다 늘어나므로, 같은 version이면 같은 내용입니다.
+public final class WordSnapshot extends AbstractList<Word> implements RandomAccess {
+    private final long version;
+    private final List<Word> words;
+
+    WordSnapshot(long version, List<Word> words) {
+        this.version = version;
+        this.words = words;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Word get(int index) {
+        return words.get(index);
+    }
+
+    @Override
+    public int size() {
+        return words.size();
+    }
+}
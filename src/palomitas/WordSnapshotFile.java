@@ -0,0 +1,145 @@
+package palomitas;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// words.csv를 빠르게 다시 읽기 위한 이진 스냅샷 (words.csv.bin)
+// 헤더: 매직 넘버, 버전, 원본 CSV의 크기/수정 시각, 레코드 수, 본문 CRC32
+// 본문: 레코드마다 [int 길이][UTF-8 바이트] x 3 (스페인어, 한국어, 예문)
+// 원본 CSV의 크기나 수정 시각이 헤더와 다르면 낡은 스냅샷으로 보고 사용하지 않습니다. (CSV가 항상 기준입니다)
+public class WordSnapshotFile {
+    private static final int MAGIC = 0x504C4D54; // "PLMT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 8;
+
+    private WordSnapshotFile() {
+    }
+
+    public static Path pathFor(String csvFilePath) {
+        return Paths.get(csvFilePath + ".bin");
+    }
+
+    // 스냅샷이 있고 CSV와 일치하면 단어를 하나씩 consumer에 넘기고 true를,
+    // 없거나 낡았거나 손상되었으면 false를 반환합니다. (체크섬을 먼저 확인한 뒤에 넘기기 시작합니다)
+    // 목록을 한꺼번에 만들지 않으므로 압축 저장 모드에서도 힙에 단어장 전체가 잠시라도 올라오지 않습니다.
+    public static boolean readIfFresh(Path snapshotPath, Path csvPath, StringPool pool, Consumer<Word> consumer) {
+        if (!Files.exists(snapshotPath) || !Files.exists(csvPath)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                return false;
+            }
+            // 파일 전체를 한 번에 읽어 들인 뒤 버퍼에서 바로 해석합니다.
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) return false;
+            }
+            buffer.flip();
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return false;
+            }
+            BasicFileAttributes csvAttributes = Files.readAttributes(csvPath, BasicFileAttributes.class);
+            long sourceSize = buffer.getLong();
+            long sourceModified = buffer.getLong();
+            if (sourceSize != csvAttributes.size() || sourceModified != csvAttributes.lastModifiedTime().toMillis()) {
+                return false; // CSV가 바뀐 뒤라 낡은 스냅샷
+            }
+            int recordCount = buffer.getInt();
+            long checksum = buffer.getLong();
+
+            byte[] array = buffer.array();
+            CRC32 crc = new CRC32();
+            crc.update(array, HEADER_SIZE, array.length - HEADER_SIZE);
+            if (crc.getValue() != checksum) {
+                System.err.println("이진 스냅샷 체크섬이 맞지 않아 CSV에서 다시 읽습니다: " + snapshotPath);
+                return false;
+            }
+
+            for (int i = 0; i < recordCount; i++) {
+                String spanish = readString(buffer);
+                String korean = pool.intern(readString(buffer));
+                String example = pool.intern(readString(buffer));
+                consumer.accept(new Word(spanish, korean, example));
+            }
+            return true;
+        } catch (IOException | RuntimeException e) { // 잘린 파일 등은 BufferUnderflowException 등으로 나타남
+            System.err.println("이진 스냅샷 읽기 중 오류 발생 (CSV에서 다시 읽습니다): " + e);
+            return false;
+        }
+    }
+
+    // 방금 저장한 CSV의 크기/수정 시각을 헤더에 기록해 둡니다. 임시 파일에 쓴 뒤 바꿔치기합니다.
+    public static void write(Path snapshotPath, Path csvPath, List<Word> words) throws IOException {
+        BasicFileAttributes csvAttributes = Files.readAttributes(csvPath, BasicFileAttributes.class);
+        write(snapshotPath, csvAttributes.size(), csvAttributes.lastModifiedTime().toMillis(), words);
+    }
+
+    // words가 어느 시점의 CSV 내용인지(그 CSV의 크기/수정 시각)를 직접 넘겨 받습니다. (CSV를 읽은 뒤 나중에 쓰는 경우)
+    public static void write(Path snapshotPath, long sourceSize, long sourceModifiedMillis, List<Word> words) throws IOException {
+
+        byte[][] encoded = new byte[words.size() * 3][];
+        long payloadSize = 0;
+        for (int i = 0; i < words.size(); i++) {
+            Word word = words.get(i);
+            encoded[i * 3] = word.getSpanish().getBytes(StandardCharsets.UTF_8);
+            encoded[i * 3 + 1] = word.getKorean().getBytes(StandardCharsets.UTF_8);
+            encoded[i * 3 + 2] = word.getExample().getBytes(StandardCharsets.UTF_8);
+            payloadSize += 12 + encoded[i * 3].length + encoded[i * 3 + 1].length + encoded[i * 3 + 2].length;
+        }
+        if (HEADER_SIZE + payloadSize > Integer.MAX_VALUE) {
+            throw new IOException("단어장이 너무 커서 이진 스냅샷을 만들 수 없습니다.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) (HEADER_SIZE + payloadSize));
+        buffer.position(HEADER_SIZE);
+        for (byte[] bytes : encoded) {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_SIZE, (int) payloadSize);
+
+        buffer.position(0);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(sourceSize);
+        buffer.putLong(sourceModifiedMillis);
+        buffer.putInt(words.size());
+        buffer.putLong(crc.getValue());
+        buffer.position(0);
+
+        Path tempFile = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        try {
+            Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tempFile, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
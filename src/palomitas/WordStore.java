@@ -0,0 +1,32 @@
+package palomitas;
+
+import java.util.List;
+
+// WordManager가 단어를 보관하는 방식 (힙의 Word 객체 목록 / 힙 밖의 압축 레코드)
+// 순서는 추가된 순서를 유지하고, 스페인어 단어(대소문자 무시)로 O(1) 조회합니다.
+// 동기화는 WordManager가 담당합니다.
+public interface WordStore {
+    int size();
+
+    Word get(int index);
+
+    // 대소문자를 무시하고 스페인어 단어로 찾습니다. 없으면 null.
+    Word find(String spanish);
+
+    // 같은 스페인어 단어가 이미 있으면 추가하지 않고 false를 반환합니다.
+    boolean add(Word word);
+
+    // 삭제한 단어가 있던 위치를, 없으면 -1을 반환합니다. (순서를 유지하므로 O(N)일 수 있습니다)
+    int remove(String spanish);
+
+    // oldSpanish 자리에 newWord를 넣고 그 위치를, 없으면 -1을 반환합니다. (순서 유지, 중복 확인은 호출하는 쪽에서)
+    int replace(String oldSpanish, Word newWord);
+
+    void clear();
+
+    // 순서대로 읽기 위한 읽기 전용 목록 (저장소가 바뀌면 함께 바뀝니다)
+    List<Word> asList();
+
+    // 지금 내용을 담은, 이후 변경의 영향을 받지 않는 읽기 전용 목록
+    List<Word> snapshot();
+}
@@ -0,0 +1,160 @@
+package palomitas;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.List;
+
+// 단어장 창의 테이블 모델. 행마다 Object[]를 만들지 않고 Word를 그대로 들고 있으며 셀 값은 Word에서 바로 읽습니다.
+// 행은 단어장의 스냅샷(WordSnapshot)을 복사 없이 그대로 씁니다. 변경 알림을 받으면 행 수만 고치고 알림을 모아 두었다가,
+// 셀을 처음 읽을 때(대개 알림이 몰린 뒤 한 번 다시 그릴 때) 그 version의 스냅샷으로 갈아탑니다.
+// 그래서 편집이나 가져오기로 알림이 이어져도 알림마다 단어장 전체를 복사하지 않습니다.
+// 그때 단어장이 이미 그 뒤로 더 바뀌었으면 그 version의 스냅샷은 구할 수 없으므로, 지금 행을 목록으로 한 번 복사해
+// 모아 둔 알림대로 고칩니다. (복사본에서 중간 행을 지우거나 넣는 것은 행 수 N에 비례: O(N))
+// 변경 알림은 바뀐 행에 대해서만 행 추가/수정/삭제 이벤트를 보내므로, 단어 하나를 고치면 그 행만 다시 그려집니다.
+//
+// 알림은 단어장을 바꾼 스레드에서 오므로 EDT로 넘겨 순서대로 적용합니다.
+// 그래서 이 모델의 행은 항상 "EDT가 지금까지 받은 알림까지"의 단어장과 같고, JTable이 보는 행 수와 어긋나지 않습니다.
+public class WordTableModel extends AbstractTableModel implements WordChangeListener {
+    private static final long serialVersionUID = 1L;
+    private static final String[] COLUMN_NAMES = {"스페인어", "한국어 뜻", "예문"};
+
+    private final WordManager wordManager;
+    private List<Word> rows; // pendingEvents를 적용하기 전의 행
+    private boolean ownsRows; // rows가 스냅샷이면 false, 알림대로 고친 복사본이면 true
+    private final List<WordChangeEvent> pendingEvents = new ArrayList<>(); // rows에 아직 반영하지 않은 알림
+    private int rowCount; // 받은 알림까지의 행 수
+    private long version; // 받은 알림까지의 단어장 version
+
+    public WordTableModel(WordManager wordManager) {
+        this.wordManager = wordManager;
+        WordSnapshot snapshot = wordManager.addWordChangeListener(this);
+        this.rows = snapshot;
+        this.rowCount = snapshot.size();
+        this.version = snapshot.getVersion();
+    }
+
+    // 창을 닫을 때 호출: 더 이상 알림을 받지 않습니다.
+    public void dispose() {
+        wordManager.removeWordChangeListener(this);
+    }
+
+    public Word getWordAt(int row) {
+        return currentRows().get(row);
+    }
+
+    // 이 모델의 행 번호는 이 version의 getAllWords() 스냅샷 위치와 같습니다. (EDT에서만 호출)
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return String.class;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Word word = currentRows().get(row);
+        switch (column) {
+            case 0: return word.getSpanish();
+            case 1: return word.getKorean();
+            case 2: return word.getExample();
+            default: return null;
+        }
+    }
+
+    @Override
+    public void wordsChanged(WordChangeEvent event) {
+        SwingUtilities.invokeLater(() -> applyChange(event));
+    }
+
+    // 행 목록은 건드리지 않고 행 수와 version만 고친 뒤 JTable에 알립니다.
+    private void applyChange(WordChangeEvent event) {
+        version = event.getVersion();
+        int first = event.getFirstIndex();
+        switch (event.getType()) {
+            case ADDED:
+                pendingEvents.add(event);
+                rowCount += event.getWords().size();
+                fireTableRowsInserted(first, event.getLastIndex());
+                break;
+            case REMOVED:
+                pendingEvents.add(event);
+                rowCount--;
+                fireTableRowsDeleted(first, first);
+                break;
+            case UPDATED:
+                pendingEvents.add(event);
+                fireTableRowsUpdated(first, first);
+                break;
+            case RELOADED:
+                pendingEvents.clear();
+                rows = event.getWords(); // 새 스냅샷을 그대로 씀
+                ownsRows = false;
+                rowCount = rows.size();
+                fireTableDataChanged();
+                break;
+        }
+    }
+
+    // 받은 알림까지 반영한 행. 모아 둔 알림이 있으면 그 version의 스냅샷으로 갈아타거나, 구할 수 없으면 복사본을 고칩니다.
+    private List<Word> currentRows() {
+        if (pendingEvents.isEmpty()) {
+            return rows;
+        }
+        WordSnapshot current = snapshotAt(version);
+        if (current != null) {
+            rows = current;
+            ownsRows = false;
+        } else {
+            if (!ownsRows) {
+                rows = new ArrayList<>(rows);
+                ownsRows = true;
+            }
+            for (WordChangeEvent event : pendingEvents) {
+                int first = event.getFirstIndex();
+                switch (event.getType()) {
+                    case ADDED:
+                        rows.addAll(first, event.getWords());
+                        break;
+                    case REMOVED:
+                        rows.remove(first);
+                        break;
+                    case UPDATED:
+                        rows.set(first, event.getWords().get(0));
+                        break;
+                    default:
+                        break; // RELOADED는 applyChange에서 바로 갈아탐
+                }
+            }
+        }
+        pendingEvents.clear();
+        return rows;
+    }
+
+    // 단어장이 아직 그 version이면 스냅샷, 이미 더 바뀌었으면 null
+    // (version을 먼저 봐서, 곧 버릴 중간 version의 스냅샷을 만들지 않음)
+    private WordSnapshot snapshotAt(long targetVersion) {
+        if (wordManager.getVersion() != targetVersion) {
+            return null;
+        }
+        WordSnapshot snapshot = wordManager.getAllWords();
+        return snapshot.getVersion() == targetVersion ? snapshot : null;
+    }
+}
@@ -0,0 +1,119 @@
+package palomitas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 단어 추가/수정 창의 자동 완성과 중복 확인에 쓰는 스페인어/한국어 뜻 접두사 트리.
+// 단어장 변경 알림을 받아 바뀐 단어만 트리에 넣고 빼므로, 한 번 만든 뒤에는 단어장 전체를 다시 훑지 않습니다.
+// (파일을 다시 읽은 경우에만 새 트리를 만들어 바꿔 끼웁니다)
+//
+// 알림은 단어장의 쓰기 잠금을 쥔 채 오므로, 트리 전체를 만드는 일(처음, 그리고 RELOADED 뒤)은 잠금 밖에서
+// 스냅샷으로 따로 만든 트리에 하고, 그동안 온 변경은 모아 두었다가 마저 반영한 뒤 volatile 필드로 바꿔 끼웁니다.
+// 그래서 트리를 만드는 동안에도 단어장 편집이 기다리지 않으며, 스냅샷 다음 변경부터 빠짐없이 순서대로 반영됩니다.
+// (새 트리로 바꾸기 전까지는 이전 트리로 답합니다)
+// 조회는 각 트리의 잠금만 잡으므로 단어장 잠금과 상관없이 EDT에서 바로 불러도 됩니다.
+public class WordTermIndex implements WordChangeListener {
+    private volatile PrefixTrie spanishTrie = new PrefixTrie();
+    private volatile PrefixTrie koreanTrie = new PrefixTrie();
+    // 새 트리를 만드는 동안 온 변경 (만드는 중이 아니면 null), 마지막으로 시작한 만들기 번호. this로 동기화
+    private List<WordChangeEvent> pendingEvents = new ArrayList<>();
+    private int buildGeneration;
+
+    WordTermIndex(WordManager wordManager) {
+        WordSnapshot snapshot = wordManager.addWordChangeListener(this);
+        build(snapshot, 0);
+    }
+
+    public boolean containsSpanish(String spanish) {
+        return spanishTrie.contains(spanish);
+    }
+
+    // 이 한국어 뜻을 가진 단어 수
+    public int countKorean(String korean) {
+        return koreanTrie.count(korean);
+    }
+
+    public List<String> completeSpanish(String prefix, int limit) {
+        return spanishTrie.complete(prefix, limit);
+    }
+
+    public List<String> completeKorean(String prefix, int limit) {
+        return koreanTrie.complete(prefix, limit);
+    }
+
+    // 쓰기 잠금을 쥔 채 호출됩니다: 단어 몇 개만 고치거나, 모아 두기만 합니다.
+    @Override
+    public synchronized void wordsChanged(WordChangeEvent event) {
+        if (event.getType() == WordChangeEvent.Type.RELOADED) {
+            int generation = ++buildGeneration; // 만들던 트리가 있으면 버림
+            pendingEvents = new ArrayList<>();
+            Thread builder = new Thread(() -> build(event.getWords(), generation), "palomitas-term-index");
+            builder.setDaemon(true);
+            builder.start();
+        } else if (pendingEvents != null) {
+            pendingEvents.add(event);
+        } else {
+            apply(spanishTrie, koreanTrie, event);
+        }
+    }
+
+    // words(변경 알림 기준 시점의 전체 단어)로 새 트리를 만들고, 그 뒤에 모인 변경을 반영해 바꿔 끼웁니다.
+    // 모인 변경도 잠금 밖에서 반영하고, 잠금 안에서는 남은 것이 없는지 확인하고 바꿔 끼우기만 합니다.
+    private void build(List<Word> words, int generation) {
+        PrefixTrie newSpanish = new PrefixTrie();
+        PrefixTrie newKorean = new PrefixTrie();
+        addAll(newSpanish, newKorean, words);
+        while (true) {
+            List<WordChangeEvent> batch;
+            synchronized (this) {
+                if (generation != buildGeneration) {
+                    return; // 그사이 다시 읽혀 더 새 트리를 만드는 중
+                }
+                if (pendingEvents.isEmpty()) {
+                    pendingEvents = null;
+                    spanishTrie = newSpanish;
+                    koreanTrie = newKorean;
+                    return;
+                }
+                batch = pendingEvents;
+                pendingEvents = new ArrayList<>();
+            }
+            for (WordChangeEvent event : batch) {
+                apply(newSpanish, newKorean, event);
+            }
+        }
+    }
+
+    private static void apply(PrefixTrie spanish, PrefixTrie korean, WordChangeEvent event) {
+        switch (event.getType()) {
+            case ADDED:
+                addAll(spanish, korean, event.getWords());
+                break;
+            case REMOVED:
+                remove(spanish, korean, event.getOldWord());
+                break;
+            case UPDATED:
+                remove(spanish, korean, event.getOldWord());
+                add(spanish, korean, event.getWords().get(0));
+                break;
+            default:
+                break; // RELOADED는 wordsChanged에서 새로 만듦
+        }
+    }
+
+    private static void remove(PrefixTrie spanish, PrefixTrie korean, Word word) {
+        spanish.remove(word.getSpanish());
+        korean.remove(word.getKorean());
+    }
+
+    private static void addAll(PrefixTrie spanish, PrefixTrie korean, List<Word> words) {
+        for (Word word : words) {
+            add(spanish, korean, word);
+        }
+    }
+
+    private static void add(PrefixTrie spanish, PrefixTrie korean, Word word) {
+        spanish.add(word.getSpanish());
+        korean.add(word.getKorean());
+    }
+}